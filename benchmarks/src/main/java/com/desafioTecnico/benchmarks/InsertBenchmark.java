@@ -0,0 +1,128 @@
+package com.desafioTecnico.benchmarks;
+
+import com.desafioTecnico.PruebaTecnicaApplication;
+import com.desafioTecnico.models.Phone;
+import com.desafioTecnico.models.User;
+import com.desafioTecnico.repositories.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide el rendimiento de inserción de usuarios con teléfonos a través de JPA, en tres configuraciones:
+ * <ul>
+ *     <li>{@code legacy}: el mapeo anterior ({@link LegacyUser}, {@link LegacyPhone}), sin lotes JDBC. Cada
+ *     teléfono obtiene su ID con una consulta a {@code hibernate_sequence} y se enlaza con su usuario mediante
+ *     un UPDATE adicional.</li>
+ *     <li>{@code unbatched}: el mapeo actual (UUID v7 generados en memoria y {@code phones_seq} con optimizador
+ *     pooled) con {@code hibernate.jdbc.batch_size = 1}, para aislar el efecto de los IDs.</li>
+ *     <li>{@code batched}: el mapeo actual con lotes JDBC de 50 sentencias, la configuración de la aplicación.</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InsertBenchmark {
+
+    private static final int USERS_PER_TRANSACTION = 100;
+
+    private static final int PHONES_PER_USER = 3;
+
+    @Param({"legacy", "unbatched", "batched"})
+    private String configuration;
+
+    private ConfigurableApplicationContext context;
+
+    private UserRepository userRepository;
+
+    private EntityManager entityManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    private long sequence;
+
+    @Setup
+    public void setUp() {
+        boolean batched = "batched".equals(configuration);
+        boolean legacy = "legacy".equals(configuration);
+        context = new SpringApplicationBuilder(PruebaTecnicaApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:insert-benchmark-" + configuration,
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.jdbc.batch_size=" + (batched ? 50 : 1),
+                        "spring.jpa.properties.hibernate.order_inserts=" + !legacy,
+                        "spring.jpa.properties.hibernate.order_updates=" + !legacy)
+                .run();
+        userRepository = context.getBean(UserRepository.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(
+                context.getBean(EntityManagerFactory.class));
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(USERS_PER_TRANSACTION)
+    public void saveUsers() {
+        if ("legacy".equals(configuration)) {
+            saveLegacyUsers();
+            return;
+        }
+        List<User> users = new ArrayList<>(USERS_PER_TRANSACTION);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < USERS_PER_TRANSACTION; i++) {
+            long n = sequence++;
+            List<Phone> phones = new ArrayList<>(PHONES_PER_USER);
+            for (int j = 0; j < PHONES_PER_USER; j++) {
+                phones.add(new Phone(null, "12345678" + j, "1", "56"));
+            }
+            users.add(new User(null, "Usuario " + n, "usuario" + n + "@example.com", "hash", phones,
+                    now, now, now, null, true, 0, null, null));
+        }
+        transactionTemplate.executeWithoutResult(status -> userRepository.saveAll(users));
+    }
+
+    private void saveLegacyUsers() {
+        List<LegacyUser> users = new ArrayList<>(USERS_PER_TRANSACTION);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < USERS_PER_TRANSACTION; i++) {
+            long n = sequence++;
+            List<LegacyPhone> phones = new ArrayList<>(PHONES_PER_USER);
+            for (int j = 0; j < PHONES_PER_USER; j++) {
+                phones.add(new LegacyPhone("12345678" + j, "1", "56"));
+            }
+            users.add(new LegacyUser("Usuario " + n, "usuario" + n + "@example.com", "hash", phones, now));
+        }
+        transactionTemplate.executeWithoutResult(status -> users.forEach(entityManager::persist));
+    }
+}
@@ -0,0 +1,38 @@
+package com.desafioTecnico.benchmarks;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+
+/**
+ * Teléfono con el mapeo anterior a la secuencia {@code phones_seq}, usado como referencia en
+ * {@link InsertBenchmark}: {@link GenerationType#AUTO} obtiene cada ID de {@code hibernate_sequence} con una
+ * consulta por fila. Se almacena en la tabla {@code legacy_phones}.
+ */
+@Entity(name = "legacy_phones")
+public class LegacyPhone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private Long id;
+
+    @Column(nullable = false)
+    private String number;
+
+    @Column(nullable = false)
+    private String cityCode;
+
+    @Column(nullable = false)
+    private String contryCode;
+
+    protected LegacyPhone() {
+    }
+
+    public LegacyPhone(String number, String cityCode, String contryCode) {
+        this.number = number;
+        this.cityCode = cityCode;
+        this.contryCode = contryCode;
+    }
+}
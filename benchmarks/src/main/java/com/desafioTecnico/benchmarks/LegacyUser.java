@@ -0,0 +1,60 @@
+package com.desafioTecnico.benchmarks;
+
+import javax.persistence.CascadeType;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.OneToMany;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Usuario con el mapeo anterior a los IDs ordenados por tiempo, usado como referencia en {@link InsertBenchmark}:
+ * UUID aleatorio con {@link GenerationType#AUTO} y teléfonos enlazados por una columna que Hibernate completa con
+ * una sentencia UPDATE posterior a cada inserción. Se almacena en la tabla {@code legacy_users}, que Hibernate
+ * crea en la base de datos del benchmark.
+ */
+@Entity(name = "legacy_users")
+public class LegacyUser {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    @Column(columnDefinition = "UUID")
+    private UUID id;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(nullable = false, unique = true)
+    private String email;
+
+    @Column(nullable = false)
+    private String password;
+
+    @OneToMany(cascade = CascadeType.ALL)
+    @JoinColumn(name = "user_id")
+    private List<LegacyPhone> phones;
+
+    private LocalDateTime created;
+    private LocalDateTime modified;
+    private LocalDateTime lastLogin;
+    private Boolean isActive;
+
+    protected LegacyUser() {
+    }
+
+    public LegacyUser(String name, String email, String password, List<LegacyPhone> phones, LocalDateTime now) {
+        this.name = name;
+        this.email = email;
+        this.password = password;
+        this.phones = phones;
+        this.created = now;
+        this.modified = now;
+        this.lastLogin = now;
+        this.isActive = true;
+    }
+}
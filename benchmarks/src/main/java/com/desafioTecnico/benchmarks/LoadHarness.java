@@ -0,0 +1,456 @@
+package com.desafioTecnico.benchmarks;
+
+import com.desafioTecnico.PruebaTecnicaApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generador de carga de extremo a extremo para {@code /api/v1/users}.
+ * <p>
+ * Levanta la aplicación con H2 en memoria (o apunta a una instancia en ejecución con {@code url=...}) y
+ * ejecuta clientes concurrentes en bucle cerrado que eligen cada operación según una mezcla configurable de
+ * registro, consulta, listado, actualización y eliminación. La latencia de cada operación se registra en un
+ * histograma HdrHistogram por endpoint y al terminar se escribe un informe JSON con el rendimiento y los
+ * percentiles, que puede compararse con el de otro commit ({@code compare=informe-anterior.json}).
+ * <p>
+ * Los argumentos tienen la forma {@code clave=valor}:
+ * <ul>
+ *     <li>{@code clients}: clientes concurrentes (50).</li>
+ *     <li>{@code duration}: segundos de medición (30) y {@code warmup}: segundos de calentamiento (5).</li>
+ *     <li>{@code mix}: pesos por operación ({@code register=10,get=60,list=15,update=10,delete=5}).</li>
+ *     <li>{@code seed}: usuarios registrados antes de empezar (100).</li>
+ *     <li>{@code label}: etiqueta del informe, por ejemplo el commit medido.</li>
+ *     <li>{@code report}: archivo del informe ({@code load-report.json}).</li>
+ *     <li>{@code url}: URL base de una instancia en ejecución; si se omite se levanta la aplicación.</li>
+ *     <li>{@code spring.*}, {@code server.*}, {@code user.*}: propiedades para la aplicación levantada.</li>
+ * </ul>
+ */
+public class LoadHarness {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private static final String PASSWORD = "P@ssw0rd123";
+
+    /**
+     * Operaciones que puede ejecutar cada cliente.
+     */
+    enum Operation {
+        REGISTER, GET, LIST, UPDATE, DELETE
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Argumento inválido, se espera clave=valor: " + arg);
+            }
+            options.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+
+        ObjectNode report = run(options);
+        File file = new File(options.getOrDefault("report", "load-report.json"));
+        OBJECT_MAPPER.writeValue(file, report);
+        printSummary(report);
+        System.out.println("Informe escrito en " + file.getAbsolutePath());
+
+        String compare = options.get("compare");
+        if (compare != null) {
+            printComparison(OBJECT_MAPPER.readTree(new File(compare)), report);
+        }
+    }
+
+    /**
+     * Ejecuta la prueba de carga con las opciones indicadas.
+     *
+     * @param options opciones de la prueba y propiedades de la aplicación.
+     * @return el informe de la ejecución.
+     * @throws Exception si la aplicación no arranca o la preparación de la prueba falla.
+     */
+    static ObjectNode run(Map<String, String> options) throws Exception {
+        int clients = Integer.parseInt(options.getOrDefault("clients", "50"));
+        int duration = Integer.parseInt(options.getOrDefault("duration", "30"));
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", "5"));
+        int seed = Integer.parseInt(options.getOrDefault("seed", "100"));
+        Mix mix = Mix.parse(options.getOrDefault("mix", "register=10,get=60,list=15,update=10,delete=5"));
+
+        ConfigurableApplicationContext context = null;
+        String baseUrl = options.get("url");
+        if (baseUrl == null) {
+            List<String> properties = new ArrayList<>(List.of(
+                    "server.port=0",
+                    "spring.datasource.url=jdbc:h2:mem:load-harness-" + System.nanoTime(),
+                    "spring.jpa.show-sql=false"));
+            options.forEach((key, value) -> {
+                if (key.startsWith("spring.") || key.startsWith("server.") || key.startsWith("user.")) {
+                    properties.add(key + "=" + value);
+                }
+            });
+            context = new SpringApplicationBuilder(PruebaTecnicaApplication.class)
+                    .properties(properties.toArray(new String[0]))
+                    .run();
+            baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                    + "/api/v1/users";
+        }
+
+        ExecutorService httpPool = Executors.newCachedThreadPool();
+        ExecutorService clientPool = Executors.newFixedThreadPool(clients);
+        try {
+            Client client = new Client(HttpClient.newBuilder()
+                    .executor(httpPool)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build(), baseUrl);
+            RegisteredUser owner = client.register();
+            if (owner == null) {
+                throw new IllegalStateException("No se pudo registrar el usuario de la prueba en " + baseUrl);
+            }
+            String authorization = "Bearer " + owner.token;
+            UserPool users = new UserPool();
+            users.add(owner);
+            for (int i = 0; i < seed; i++) {
+                users.add(client.register());
+            }
+
+            Map<Operation, Stats> stats = new EnumMap<>(Operation.class);
+            for (Operation operation : Operation.values()) {
+                stats.put(operation, new Stats());
+            }
+
+            long start = System.nanoTime();
+            long measureFrom = start + TimeUnit.SECONDS.toNanos(warmup);
+            long deadline = measureFrom + TimeUnit.SECONDS.toNanos(duration);
+            List<Future<?>> futures = new ArrayList<>(clients);
+            for (int i = 0; i < clients; i++) {
+                futures.add(clientPool.submit(() -> {
+                    while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                        Operation operation = mix.next();
+                        long begin = System.nanoTime();
+                        int status = client.execute(operation, users, authorization);
+                        long end = System.nanoTime();
+                        if (begin >= measureFrom && status != Client.SKIPPED) {
+                            stats.get(operation).record(status, end - begin);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return report(options, clients, duration, warmup, mix, stats);
+        } finally {
+            clientPool.shutdownNow();
+            httpPool.shutdownNow();
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private static ObjectNode report(Map<String, String> options, int clients, int duration, int warmup, Mix mix,
+                                     Map<Operation, Stats> stats) {
+        ObjectNode report = OBJECT_MAPPER.createObjectNode();
+        report.put("label", options.getOrDefault("label", ""));
+        report.put("timestamp", Instant.now().toString());
+        ObjectNode config = report.putObject("config");
+        config.put("clients", clients);
+        config.put("durationSeconds", duration);
+        config.put("warmupSeconds", warmup);
+        config.put("mix", mix.toString());
+        config.put("target", options.getOrDefault("url", "embedded"));
+
+        ObjectNode endpoints = report.putObject("endpoints");
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+        for (Map.Entry<Operation, Stats> entry : stats.entrySet()) {
+            Stats endpointStats = entry.getValue();
+            if (endpointStats.histogram.getTotalCount() == 0) {
+                continue;
+            }
+            total.add(endpointStats.histogram);
+            totalErrors += endpointStats.errors.get();
+            writeStats(endpoints.putObject(entry.getKey().name().toLowerCase()), endpointStats.histogram,
+                    endpointStats.errors.get(), duration);
+        }
+        writeStats(report.putObject("total"), total, totalErrors, duration);
+        return report;
+    }
+
+    private static void writeStats(ObjectNode node, Histogram histogram, long errors, int duration) {
+        node.put("count", histogram.getTotalCount());
+        node.put("errors", errors);
+        node.put("throughput", histogram.getTotalCount() / (double) duration);
+        node.put("meanMs", histogram.getMean() / 1000.0);
+        node.put("p50Ms", histogram.getValueAtPercentile(50) / 1000.0);
+        node.put("p90Ms", histogram.getValueAtPercentile(90) / 1000.0);
+        node.put("p99Ms", histogram.getValueAtPercentile(99) / 1000.0);
+        node.put("p999Ms", histogram.getValueAtPercentile(99.9) / 1000.0);
+        node.put("maxMs", histogram.getMaxValue() / 1000.0);
+    }
+
+    private static void printSummary(JsonNode report) {
+        System.out.printf("%-10s %10s %8s %10s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        report.get("endpoints").fields().forEachRemaining(entry -> printRow(entry.getKey(), entry.getValue()));
+        printRow("total", report.get("total"));
+    }
+
+    private static void printRow(String name, JsonNode stats) {
+        System.out.printf("%-10s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f%n", name, stats.get("count").asLong(),
+                stats.get("errors").asLong(), stats.get("throughput").asDouble(), stats.get("p50Ms").asDouble(),
+                stats.get("p99Ms").asDouble(), stats.get("p999Ms").asDouble(), stats.get("maxMs").asDouble());
+    }
+
+    private static void printComparison(JsonNode baseline, JsonNode current) {
+        System.out.printf("Comparación con '%s' (%s):%n", baseline.path("label").asText(),
+                baseline.path("timestamp").asText());
+        System.out.printf("%-10s %12s %12s%n", "endpoint", "req/s", "p99");
+        current.get("endpoints").fields().forEachRemaining(entry -> {
+            JsonNode previous = baseline.path("endpoints").path(entry.getKey());
+            if (!previous.isMissingNode()) {
+                printDelta(entry.getKey(), previous, entry.getValue());
+            }
+        });
+        printDelta("total", baseline.get("total"), current.get("total"));
+    }
+
+    private static void printDelta(String name, JsonNode previous, JsonNode current) {
+        System.out.printf("%-10s %+11.1f%% %+11.1f%%%n", name,
+                change(previous.get("throughput").asDouble(), current.get("throughput").asDouble()),
+                change(previous.get("p99Ms").asDouble(), current.get("p99Ms").asDouble()));
+    }
+
+    private static double change(double previous, double current) {
+        return previous == 0 ? 0 : (current - previous) * 100 / previous;
+    }
+
+    /**
+     * Latencias (en microsegundos) y errores de un endpoint. Se consideran errores las respuestas distintas
+     * de 2xx y 304 y los fallos de conexión.
+     */
+    private static final class Stats {
+
+        private final Histogram histogram = new ConcurrentHistogram(3);
+
+        private final AtomicLong errors = new AtomicLong();
+
+        void record(int status, long nanos) {
+            histogram.recordValue(TimeUnit.NANOSECONDS.toMicros(nanos));
+            if (status != 304 && (status < 200 || status >= 300)) {
+                errors.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Mezcla de operaciones con pesos relativos.
+     */
+    private static final class Mix {
+
+        private final Operation[] operations;
+
+        private final int[] cumulativeWeights;
+
+        private Mix(Operation[] operations, int[] cumulativeWeights) {
+            this.operations = operations;
+            this.cumulativeWeights = cumulativeWeights;
+        }
+
+        static Mix parse(String value) {
+            List<Operation> operations = new ArrayList<>();
+            List<Integer> weights = new ArrayList<>();
+            int total = 0;
+            for (String part : value.split(",")) {
+                String[] pair = part.trim().split("=");
+                int weight = Integer.parseInt(pair[1].trim());
+                if (weight > 0) {
+                    total += weight;
+                    operations.add(Operation.valueOf(pair[0].trim().toUpperCase()));
+                    weights.add(total);
+                }
+            }
+            if (operations.isEmpty()) {
+                throw new IllegalArgumentException("La mezcla debe tener al menos una operación con peso positivo");
+            }
+            return new Mix(operations.toArray(new Operation[0]), weights.stream().mapToInt(Integer::intValue).toArray());
+        }
+
+        Operation next() {
+            int roll = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+            for (int i = 0; i < cumulativeWeights.length; i++) {
+                if (roll < cumulativeWeights[i]) {
+                    return operations[i];
+                }
+            }
+            return operations[operations.length - 1];
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder value = new StringBuilder();
+            for (int i = 0; i < operations.length; i++) {
+                int weight = cumulativeWeights[i] - (i == 0 ? 0 : cumulativeWeights[i - 1]);
+                value.append(i == 0 ? "" : ",").append(operations[i].name().toLowerCase()).append('=').append(weight);
+            }
+            return value.toString();
+        }
+    }
+
+    /**
+     * Usuario registrado durante la prueba.
+     */
+    private static final class RegisteredUser {
+
+        private final String id;
+
+        private final String email;
+
+        private final String token;
+
+        RegisteredUser(String id, String email, String token) {
+            this.id = id;
+            this.email = email;
+            this.token = token;
+        }
+    }
+
+    /**
+     * Usuarios existentes sobre los que se ejecutan las consultas, actualizaciones y eliminaciones.
+     */
+    private static final class UserPool {
+
+        private final List<RegisteredUser> users = new ArrayList<>();
+
+        synchronized void add(RegisteredUser user) {
+            if (user != null) {
+                users.add(user);
+            }
+        }
+
+        synchronized RegisteredUser any() {
+            return users.get(ThreadLocalRandom.current().nextInt(users.size()));
+        }
+
+        /**
+         * Quita un usuario al azar, salvo el primero (el dueño del token de la prueba), que nunca se elimina.
+         */
+        synchronized RegisteredUser remove() {
+            if (users.size() <= 1) {
+                return null;
+            }
+            int index = 1 + ThreadLocalRandom.current().nextInt(users.size() - 1);
+            RegisteredUser last = users.remove(users.size() - 1);
+            return index == users.size() ? last : users.set(index, last);
+        }
+    }
+
+    /**
+     * Cliente HTTP del API de usuarios.
+     */
+    private static final class Client {
+
+        /**
+         * Resultado de una operación que no se ejecutó porque no había usuarios que eliminar.
+         */
+        static final int SKIPPED = -1;
+
+        private static final AtomicLong EMAIL_SEQUENCE = new AtomicLong();
+
+        private final HttpClient httpClient;
+
+        private final String baseUrl;
+
+        Client(HttpClient httpClient, String baseUrl) {
+            this.httpClient = httpClient;
+            this.baseUrl = baseUrl;
+        }
+
+        /**
+         * Ejecuta una operación y devuelve el código de estado HTTP, 0 si la solicitud falló o {@link #SKIPPED}.
+         */
+        int execute(Operation operation, UserPool users, String authorization) {
+            try {
+                switch (operation) {
+                    case REGISTER:
+                        RegisteredUser registered = register();
+                        users.add(registered);
+                        return registered != null ? 201 : 0;
+                    case GET:
+                        return send(authorized(baseUrl + "/" + users.any().id, authorization).GET());
+                    case LIST:
+                        return send(authorized(baseUrl + "?size=50", authorization).GET());
+                    case UPDATE:
+                        RegisteredUser user = users.any();
+                        return send(authorized(baseUrl + "/" + user.id, authorization)
+                                .header("Content-Type", "application/json")
+                                .PUT(HttpRequest.BodyPublishers.ofString("{\"name\":\"Usuario "
+                                        + System.nanoTime() + "\",\"email\":\"" + user.email + "\",\"phones\":["
+                                        + "{\"number\":\"123456789\",\"citycode\":\""
+                                        + ThreadLocalRandom.current().nextInt(1, 10) + "\",\"contrycode\":\"56\"}]}")));
+                    case DELETE:
+                        RegisteredUser removed = users.remove();
+                        if (removed == null) {
+                            return SKIPPED;
+                        }
+                        return send(authorized(baseUrl + "/" + removed.id, authorization).DELETE());
+                    default:
+                        throw new IllegalStateException("Operación no soportada: " + operation);
+                }
+            } catch (IOException e) {
+                return 0;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return 0;
+            }
+        }
+
+        RegisteredUser register() throws IOException, InterruptedException {
+            String email = "carga" + EMAIL_SEQUENCE.incrementAndGet() + "-" + System.nanoTime() + "@example.com";
+            String body = "{\"name\":\"Usuario de carga\",\"email\":\"" + email + "\",\"password\":\"" + PASSWORD
+                    + "\",\"phones\":[{\"number\":\"123456789\",\"citycode\":\"1\",\"contrycode\":\"56\"}]}";
+            HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(URI.create(baseUrl + "/register"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 201) {
+                return null;
+            }
+            JsonNode json = OBJECT_MAPPER.readTree(response.body());
+            return new RegisteredUser(json.get("id").asText(), email, json.get("token").asText());
+        }
+
+        private HttpRequest.Builder authorized(String url, String authorization) {
+            return HttpRequest.newBuilder(URI.create(url)).header("Authorization", authorization);
+        }
+
+        private int send(HttpRequest.Builder request) throws IOException, InterruptedException {
+            return httpClient.send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+        }
+    }
+}
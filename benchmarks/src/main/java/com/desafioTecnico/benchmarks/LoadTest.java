@@ -0,0 +1,41 @@
+package com.desafioTecnico.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Prueba de carga del API de usuarios en modo bloqueante ({@code user.async.enabled=false}) y en modo asíncrono
+ * ({@code user.async.enabled=true}) con el mismo número de hilos de Tomcat.
+ * <p>
+ * Ejecuta {@link LoadHarness} con consultas de un usuario y, una de cada diez solicitudes, un registro
+ * (BCrypt e inserción). Para cada modo se informa el rendimiento, los percentiles p50 y p99 y la cantidad de
+ * errores, lo que permite comparar cuántas conexiones concurrentes soporta la aplicación con el mismo p99.
+ * <p>
+ * Uso: {@code java -cp benchmarks.jar com.desafioTecnico.benchmarks.LoadTest [clientes] [segundos] [hilosTomcat]}
+ */
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 30;
+        int tomcatThreads = args.length > 2 ? Integer.parseInt(args[2]) : 50;
+
+        System.out.printf("clientes=%d, duración=%ds, hilos de Tomcat=%d%n", clients, seconds, tomcatThreads);
+        for (boolean async : new boolean[]{false, true}) {
+            Map<String, String> options = new LinkedHashMap<>();
+            options.put("clients", String.valueOf(clients));
+            options.put("duration", String.valueOf(seconds));
+            options.put("mix", "register=1,get=9");
+            options.put("seed", "0");
+            options.put("server.tomcat.threads.max", String.valueOf(tomcatThreads));
+            options.put("user.async.enabled", String.valueOf(async));
+
+            JsonNode total = LoadHarness.run(options).get("total");
+            System.out.printf("async=%-5s solicitudes/s=%8.1f p50=%6.1fms p99=%7.1fms errores=%d%n",
+                    async, total.get("throughput").asDouble(), total.get("p50Ms").asDouble(),
+                    total.get("p99Ms").asDouble(), total.get("errors").asLong());
+        }
+    }
+}
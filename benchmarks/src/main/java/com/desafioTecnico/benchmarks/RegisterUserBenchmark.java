@@ -0,0 +1,121 @@
+package com.desafioTecnico.benchmarks;
+
+import com.desafioTecnico.PruebaTecnicaApplication;
+import com.desafioTecnico.dtos.PhoneDto;
+import com.desafioTecnico.dtos.UserRequestDto;
+import com.desafioTecnico.dtos.UserResponseDto;
+import com.desafioTecnico.models.Phone;
+import com.desafioTecnico.models.User;
+import com.desafioTecnico.services.PasswordHashService;
+import com.desafioTecnico.services.TokenService;
+import com.desafioTecnico.services.UserService;
+import com.desafioTecnico.validators.Validator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide cada etapa de {@code UserService.registerUser} por separado (validación, BCrypt, generación del token y
+ * conversión de la entidad) y el registro completo contra H2 embebido, con distintos costos de BCrypt.
+ * Permite ver qué parte del registro domina el tiempo y detectar regresiones en cualquiera de ellas.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RegisterUserBenchmark {
+
+    private static final String PASSWORD = "P@ssw0rd123";
+
+    @Param({"4", "10", "12"})
+    private int bcryptCost;
+
+    private ConfigurableApplicationContext context;
+
+    private UserService userService;
+
+    private PasswordHashService passwordHashService;
+
+    private TokenService tokenService;
+
+    private Validator<String> emailValidator;
+
+    private Validator<String> passwordValidator;
+
+    private User user;
+
+    private long sequence;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        context = new SpringApplicationBuilder(PruebaTecnicaApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:register-benchmark-" + bcryptCost,
+                        "spring.jpa.show-sql=false",
+                        "user.password.hash.cost=" + bcryptCost)
+                .run();
+        userService = context.getBean(UserService.class);
+        passwordHashService = context.getBean(PasswordHashService.class);
+        tokenService = context.getBean(TokenService.class);
+        emailValidator = context.getBean("emailValidatorChain", Validator.class);
+        passwordValidator = context.getBean("passwordValidatorChain", Validator.class);
+
+        LocalDateTime now = LocalDateTime.now();
+        user = new User(UUID.randomUUID(), "Usuario", "usuario@example.com", "hash",
+                List.of(new Phone(1L, "123456789", "1", "56")), now, now, now, null, true, 0, 0L, null);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void validate() {
+        emailValidator.validate("usuario@example.com");
+        passwordValidator.validate(PASSWORD);
+    }
+
+    @Benchmark
+    public String hashPassword() {
+        return passwordHashService.hashInCurrentThread(PASSWORD);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenService.generateToken(user.getId(), user.getEmail(), user.getTokenVersion());
+    }
+
+    @Benchmark
+    public UserResponseDto mapEntity() {
+        return UserResponseDto.from(user);
+    }
+
+    @Benchmark
+    public User registerUser() {
+        long n = sequence++;
+        return userService.registerUser(new UserRequestDto("Usuario " + n, "registro" + n + "@example.com", PASSWORD,
+                true, List.of(new PhoneDto("123456789", "1", "56"))));
+    }
+}
@@ -0,0 +1,87 @@
+package com.desafioTecnico.benchmarks;
+
+import com.desafioTecnico.dtos.UserRequestDto;
+import com.desafioTecnico.dtos.UserResponseDto;
+import com.desafioTecnico.models.Phone;
+import com.desafioTecnico.models.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide la serialización JSON de usuarios con la misma configuración de Jackson que usa Spring MVC:
+ * la entidad {@link User}, la respuesta {@link UserResponseDto} (incluida su construcción) y la lectura
+ * de una solicitud de registro.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"1", "10"})
+    private int phoneCount;
+
+    private ObjectMapper objectMapper;
+
+    private User user;
+
+    private byte[] requestJson;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        List<Phone> phones = new ArrayList<>(phoneCount);
+        for (int i = 0; i < phoneCount; i++) {
+            phones.add(new Phone((long) i, "12345678" + i, "1", "56"));
+        }
+        LocalDateTime now = LocalDateTime.now();
+        user = new User(UUID.randomUUID(), "Usuario", "usuario@example.com", "hash", phones,
+                now, now, now, null, true, 0, 0L, null);
+
+        StringBuilder request = new StringBuilder("{\"name\":\"Usuario\",\"email\":\"usuario@example.com\","
+                + "\"password\":\"P@ssw0rd123\",\"phones\":[");
+        for (int i = 0; i < phoneCount; i++) {
+            request.append(i == 0 ? "" : ",")
+                    .append("{\"number\":\"12345678").append(i).append("\",\"citycode\":\"1\",\"contrycode\":\"56\"}");
+        }
+        requestJson = request.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] serializeEntity() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(user);
+    }
+
+    @Benchmark
+    public byte[] serializeResponseDto() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(UserResponseDto.from(user));
+    }
+
+    @Benchmark
+    public UserRequestDto deserializeRequest() throws IOException {
+        return objectMapper.readValue(requestJson, UserRequestDto.class);
+    }
+}
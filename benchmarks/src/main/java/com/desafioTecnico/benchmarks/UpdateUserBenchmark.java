@@ -0,0 +1,93 @@
+package com.desafioTecnico.benchmarks;
+
+import com.desafioTecnico.PruebaTecnicaApplication;
+import com.desafioTecnico.dtos.PhoneDto;
+import com.desafioTecnico.dtos.UserRequestDto;
+import com.desafioTecnico.models.User;
+import com.desafioTecnico.services.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide {@code UserService.updateUser} contra H2 embebido con distintas cantidades de teléfonos.
+ * Cada invocación alterna entre dos listas que comparten la mitad de los números, por lo que la
+ * combinación de teléfonos conserva la mitad, actualiza sus códigos, elimina la otra mitad e inserta nuevos.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UpdateUserBenchmark {
+
+    private static final String EMAIL = "actualizacion@example.com";
+
+    @Param({"1", "10", "100"})
+    private int phoneCount;
+
+    private ConfigurableApplicationContext context;
+
+    private UserService userService;
+
+    private UUID userId;
+
+    private UserRequestDto[] requests;
+
+    private int next;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(PruebaTecnicaApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:update-benchmark-" + phoneCount,
+                        "spring.jpa.show-sql=false",
+                        "user.password.hash.cost=4")
+                .run();
+        userService = context.getBean(UserService.class);
+
+        requests = new UserRequestDto[]{request(0, "1"), request(phoneCount / 2, "2")};
+        UserRequestDto registration = request(0, "1");
+        registration.setPassword("P@ssw0rd123");
+        userId = userService.registerUser(registration).getId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    private UserRequestDto request(int firstNumber, String cityCode) {
+        List<PhoneDto> phones = new ArrayList<>(phoneCount);
+        for (int i = firstNumber; i < firstNumber + phoneCount; i++) {
+            phones.add(new PhoneDto(String.valueOf(900000000 + i), cityCode, "56"));
+        }
+        return new UserRequestDto("Usuario", EMAIL, null, true, phones);
+    }
+
+    @Benchmark
+    public User updatePhones() {
+        UserRequestDto request = requests[next];
+        next = 1 - next;
+        return userService.updateUser(userId, request, null);
+    }
+}
@@ -0,0 +1,115 @@
+package com.desafioTecnico.benchmarks;
+
+import com.desafioTecnico.PruebaTecnicaApplication;
+import com.desafioTecnico.dtos.CursorPageDto;
+import com.desafioTecnico.dtos.SerializedUserDto;
+import com.desafioTecnico.dtos.UserResponseDto;
+import com.desafioTecnico.models.Phone;
+import com.desafioTecnico.models.User;
+import com.desafioTecnico.repositories.UserRepository;
+import com.desafioTecnico.services.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide las consultas de usuarios contra H2 embebido con distintos tamaños de tabla: la búsqueda por ID
+ * (con y sin la caché de respuestas serializadas) y la primera página por cursor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserQueryBenchmark {
+
+    private static final int USERS_PER_TRANSACTION = 1000;
+
+    private static final int PHONES_PER_USER = 2;
+
+    @Param({"100", "1000", "10000"})
+    private int tableSize;
+
+    private ConfigurableApplicationContext context;
+
+    private UserService userService;
+
+    private final List<UUID> ids = new ArrayList<>();
+
+    private int next;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(PruebaTecnicaApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:query-benchmark-" + tableSize,
+                        "spring.jpa.show-sql=false")
+                .run();
+        userService = context.getBean(UserService.class);
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        LocalDateTime now = LocalDateTime.now();
+        for (int offset = 0; offset < tableSize; offset += USERS_PER_TRANSACTION) {
+            List<User> users = new ArrayList<>(USERS_PER_TRANSACTION);
+            for (int n = offset; n < Math.min(tableSize, offset + USERS_PER_TRANSACTION); n++) {
+                List<Phone> phones = new ArrayList<>(PHONES_PER_USER);
+                for (int j = 0; j < PHONES_PER_USER; j++) {
+                    phones.add(new Phone(null, "12345678" + j, "1", "56"));
+                }
+                users.add(new User(null, "Usuario " + n, "usuario" + n + "@example.com", "hash", phones,
+                        now, now, now, null, true, 0, null, null));
+            }
+            transactionTemplate.executeWithoutResult(status -> userRepository.saveAll(users)
+                    .forEach(user -> ids.add(user.getId())));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    private UUID nextId() {
+        UUID id = ids.get(next);
+        next = (next + 1) % ids.size();
+        return id;
+    }
+
+    @Benchmark
+    public User findById() {
+        return userService.findById(nextId());
+    }
+
+    @Benchmark
+    public SerializedUserDto findSerializedById() {
+        return userService.findSerializedById(nextId());
+    }
+
+    @Benchmark
+    public CursorPageDto<UserResponseDto> findFirstPage() {
+        return userService.findPage(null, 50);
+    }
+}
@@ -0,0 +1,87 @@
+package com.desafioTecnico.benchmarks;
+
+import com.desafioTecnico.validators.EmailFormatValidator;
+import com.desafioTecnico.validators.PasswordPolicyValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compara la validación de correos y contraseñas con {@code Pattern.matches} (la expresión se compila
+ * en cada llamada), con la expresión precompilada y con el validador lineal de contraseñas.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private static final String PASSWORD_REGEX = "^(?=.*[0-9])(?=.*[a-zA-Z])(?=.*[@#$%^&+=]).{8,20}$";
+
+    private static final String EMAIL_REGEX = "^[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Z|a-z]{2,}$";
+
+    @Param({"P@ssw0rd123", "passwordsinsimbolo12", "abcdefghijklmnopqrs@"})
+    private String password;
+
+    @Param({"jerry@gmail.com"})
+    private String email;
+
+    private Pattern passwordPattern;
+
+    private Pattern emailPattern;
+
+    private PasswordPolicyValidator passwordPolicyValidator;
+
+    private EmailFormatValidator emailFormatValidator;
+
+    @Setup
+    public void setUp() {
+        passwordPattern = Pattern.compile(PASSWORD_REGEX);
+        emailPattern = Pattern.compile(EMAIL_REGEX);
+        passwordPolicyValidator = new PasswordPolicyValidator(8, 20, "@#$%^&+=");
+        emailFormatValidator = new EmailFormatValidator(EMAIL_REGEX);
+    }
+
+    @Benchmark
+    public boolean passwordPatternMatches() {
+        return Pattern.matches(PASSWORD_REGEX, password);
+    }
+
+    @Benchmark
+    public boolean passwordPrecompiledRegex() {
+        return passwordPattern.matcher(password).matches();
+    }
+
+    @Benchmark
+    public boolean passwordLinearChecker() {
+        return passwordPolicyValidator.isValid(password);
+    }
+
+    @Benchmark
+    public boolean emailPatternMatches() {
+        return Pattern.matches(EMAIL_REGEX, email);
+    }
+
+    @Benchmark
+    public boolean emailPrecompiledRegex() {
+        return emailPattern.matcher(email).matches();
+    }
+
+    @Benchmark
+    public void emailFormatValidator() {
+        emailFormatValidator.validate(email);
+    }
+}
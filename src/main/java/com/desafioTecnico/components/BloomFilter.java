@@ -0,0 +1,92 @@
+package com.desafioTecnico.components;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom de cadenas, seguro para usarse desde varios hilos sin bloqueos.
+ * Puede dar falsos positivos con la probabilidad configurada, pero nunca falsos negativos:
+ * si {@link #mightContain(String)} devuelve {@code false}, la cadena no fue agregada.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+
+    private final long bitCount;
+
+    private final int hashFunctions;
+
+    /**
+     * Crea un filtro dimensionado para la cantidad de elementos y la tasa de falsos positivos indicadas.
+     *
+     * @param expectedInsertions cantidad de elementos que se espera agregar.
+     * @param falsePositiveRate probabilidad de falso positivo deseada, entre 0 y 1.
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bits = new AtomicLongArray((int) Math.max(1, (m + 63) / 64));
+        this.bitCount = (long) bits.length() * 64;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+    }
+
+    /**
+     * Agrega una cadena al filtro.
+     *
+     * @param value la cadena a agregar.
+     */
+    public void put(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = bits.get(index);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(index, current, current | mask));
+        }
+    }
+
+    /**
+     * Indica si la cadena podría haber sido agregada al filtro.
+     *
+     * @param value la cadena a consultar.
+     * @return {@code false} si la cadena con seguridad no fue agregada; {@code true} si posiblemente sí.
+     */
+    public boolean mightContain(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Calcula un hash de 64 bits de la cadena (FNV-1a seguido de la mezcla final de MurmurHash3).
+     */
+    private static long hash(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB1FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
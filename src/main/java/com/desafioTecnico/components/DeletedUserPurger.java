@@ -0,0 +1,95 @@
+package com.desafioTecnico.components;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Purga periódica de los usuarios dados de baja.
+ * <p>
+ * Las bajas solo marcan la fecha de eliminación del usuario; este componente elimina definitivamente los usuarios
+ * y sus teléfonos una vez transcurrido el período de gracia, fuera del horario de mayor carga. La purga se hace
+ * en lotes de {@code user.purge.batch-size} usuarios, cada uno en su propia transacción, para no mantener bloqueos
+ * ni transacciones largas.
+ */
+@Component
+public class DeletedUserPurger {
+
+    private static final String SELECT_PURGEABLE = "SELECT id FROM users WHERE deleted_at < ? " +
+            "ORDER BY deleted_at LIMIT ?";
+
+    private static final String DELETE_PHONES = "DELETE FROM phones WHERE user_id IN (:ids)";
+
+    private static final String DELETE_USERS = "DELETE FROM users WHERE id IN (:ids) AND deleted_at IS NOT NULL";
+
+    private static final Logger log = LoggerFactory.getLogger(DeletedUserPurger.class);
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final long gracePeriodHours;
+
+    private final int batchSize;
+
+    /**
+     * Constructor de DeletedUserPurger.
+     *
+     * @param jdbcTemplate plantilla JDBC utilizada para seleccionar y eliminar los usuarios.
+     * @param transactionManager gestor de transacciones utilizado para cada lote.
+     * @param gracePeriodHours horas que se conserva un usuario dado de baja antes de eliminarlo.
+     * @param batchSize cantidad de usuarios eliminados por transacción.
+     */
+    public DeletedUserPurger(NamedParameterJdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                             @Value("${user.purge.grace-period-hours:24}") long gracePeriodHours,
+                             @Value("${user.purge.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.gracePeriodHours = gracePeriodHours;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Elimina definitivamente los usuarios dados de baja antes del período de gracia, junto con sus teléfonos,
+     * hasta que no quedan usuarios por purgar.
+     *
+     * @return la cantidad de usuarios eliminados.
+     */
+    @Scheduled(cron = "${user.purge.cron:0 0 3 * * *}")
+    public synchronized int purge() {
+        Timestamp before = Timestamp.valueOf(LocalDateTime.now().minusHours(gracePeriodHours));
+        int purged = 0;
+        int deleted;
+        do {
+            Integer batch = transactionTemplate.execute(status -> purgeBatch(before));
+            deleted = batch != null ? batch : 0;
+            purged += deleted;
+        } while (deleted == batchSize);
+        if (purged > 0) {
+            log.info("Se eliminaron definitivamente {} usuarios dados de baja", purged);
+        }
+        return purged;
+    }
+
+    private int purgeBatch(Timestamp before) {
+        List<UUID> ids = jdbcTemplate.getJdbcTemplate().queryForList(SELECT_PURGEABLE, UUID.class, before, batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids);
+        jdbcTemplate.update(DELETE_PHONES, params);
+        jdbcTemplate.update(DELETE_USERS, params);
+        return ids.size();
+    }
+}
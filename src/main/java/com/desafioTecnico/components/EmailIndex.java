@@ -0,0 +1,165 @@
+package com.desafioTecnico.components;
+
+import com.desafioTecnico.repositories.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Índice en memoria de los correos registrados, basado en un filtro de Bloom.
+ * Permite responder "el correo con seguridad no está registrado" sin consultar la base de datos;
+ * solo cuando el filtro indica un posible registro se debe confirmar con una consulta.
+ * <p>
+ * El índice se carga desde la tabla {@code users} cuando la aplicación termina de iniciar; mientras
+ * no está cargado, todas las consultas responden "posiblemente registrado" para forzar la verificación
+ * en la base de datos. Como un filtro de Bloom no admite eliminaciones, las bajas y cambios de correo
+ * solo se contabilizan y el filtro se reconstruye periódicamente cuando superan el umbral configurado.
+ */
+@Component
+public class EmailIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(EmailIndex.class);
+
+    private final UserRepository userRepository;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final long expectedInsertions;
+
+    private final double falsePositiveRate;
+
+    private final double rebuildRemovalRatio;
+
+    private final AtomicLong insertions = new AtomicLong();
+
+    private final AtomicLong removals = new AtomicLong();
+
+    private volatile BloomFilter current;
+
+    private volatile BloomFilter building;
+
+    private volatile boolean ready;
+
+    /**
+     * Constructor de EmailIndex.
+     *
+     * @param userRepository repositorio utilizado para cargar los correos registrados.
+     * @param transactionManager gestor de transacciones utilizado para recorrer la tabla de usuarios.
+     * @param expectedInsertions cantidad de correos para la que se dimensiona el filtro.
+     * @param falsePositiveRate probabilidad de falso positivo del filtro.
+     * @param rebuildRemovalRatio proporción de bajas respecto de los correos indexados que provoca una reconstrucción.
+     */
+    public EmailIndex(UserRepository userRepository, PlatformTransactionManager transactionManager,
+                      @Value("${user.email-index.expected-insertions:1000000}") long expectedInsertions,
+                      @Value("${user.email-index.false-positive-rate:0.01}") double falsePositiveRate,
+                      @Value("${user.email-index.rebuild-removal-ratio:0.1}") double rebuildRemovalRatio) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.rebuildRemovalRatio = rebuildRemovalRatio;
+        this.current = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    /**
+     * Carga el índice cuando la aplicación terminó de iniciar.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+        ready = true;
+    }
+
+    /**
+     * Indica si el correo podría estar registrado.
+     *
+     * @param email el correo a consultar.
+     * @return {@code false} si el correo con seguridad no está registrado; {@code true} si debe confirmarse
+     *         en la base de datos.
+     */
+    public boolean mightContain(String email) {
+        return !ready || current.mightContain(email);
+    }
+
+    /**
+     * Agrega un correo al índice de inmediato y, si hay una transacción activa, nuevamente al confirmarse.
+     * La segunda inserción cubre el caso en que una reconstrucción recorrió la tabla antes de que la
+     * transacción que registra el correo fuera confirmada.
+     *
+     * @param email el correo registrado.
+     */
+    public void add(String email) {
+        put(email);
+        insertions.incrementAndGet();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    put(email);
+                }
+            });
+        }
+    }
+
+    /**
+     * Registra que un correo dejó de estar en uso, por baja del usuario o por cambio de correo.
+     * El correo sigue respondiendo "posiblemente registrado" hasta la siguiente reconstrucción.
+     */
+    public void recordRemoval() {
+        removals.incrementAndGet();
+    }
+
+    /**
+     * Reconstruye el filtro si la cantidad de bajas acumuladas supera el umbral configurado.
+     */
+    @Scheduled(fixedDelayString = "${user.email-index.rebuild-check-interval-ms:300000}")
+    public void rebuildIfStale() {
+        if (ready && removals.get() > insertions.get() * rebuildRemovalRatio) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Reconstruye el filtro a partir de los correos almacenados en la tabla {@code users}.
+     * Los correos agregados durante la reconstrucción se insertan tanto en el filtro actual como en el nuevo.
+     */
+    public synchronized void rebuild() {
+        BloomFilter next = new BloomFilter(expectedInsertions, falsePositiveRate);
+        building = next;
+        long loaded = readOnlyTransaction.execute(status -> {
+            long count = 0;
+            try (Stream<String> emails = userRepository.streamAllEmails()) {
+                for (String email : (Iterable<String>) emails::iterator) {
+                    next.put(email);
+                    count++;
+                }
+            }
+            return count;
+        });
+        current = next;
+        building = null;
+        insertions.set(loaded);
+        removals.set(0);
+        log.info("Índice de correos reconstruido con {} correos", loaded);
+    }
+
+    private void put(String email) {
+        current.put(email);
+        BloomFilter next = building;
+        if (next != null) {
+            next.put(email);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.desafioTecnico.components;
+
+import com.desafioTecnico.exceptions.IdempotencyKeyException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Almacén acotado de respuestas de solicitudes con cabecera {@link #IDEMPOTENCY_KEY_HEADER}.
+ * <p>
+ * La primera solicitud con una clave se ejecuta normalmente y su respuesta exitosa se conserva durante
+ * {@code user.idempotency.ttl-seconds}; un reintento con la misma clave y el mismo cuerpo recibe esa respuesta sin
+ * volver a ejecutarse, con la cabecera {@link #REPLAYED_HEADER}. Si el reintento llega mientras la primera solicitud
+ * sigue en curso, espera su resultado en lugar de ejecutarse en paralelo. Las respuestas con error no se conservan,
+ * por lo que un reintento posterior vuelve a ejecutarse.
+ * <p>
+ * Cada clave se asocia a la huella del cuerpo de la solicitud, un HMAC-SHA256 con una clave generada al arrancar,
+ * para que el almacén no guarde las contraseñas de los cuerpos ni un hash que permita atacarlas. Sus estadísticas
+ * se publican como métricas {@code cache.*} con la etiqueta {@code cache=idempotentResponses}.
+ */
+@Component
+public class IdempotencyStore implements MeterBinder {
+
+    /**
+     * Cabecera con la que el cliente identifica una operación que puede reintentar.
+     */
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    /**
+     * Cabecera que indica que la respuesta se obtuvo del almacén y no de una nueva ejecución.
+     */
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final ObjectMapper objectMapper;
+
+    private final SecretKeySpec hmacKey;
+
+    private final Cache<String, Entry> cache;
+
+    /**
+     * Constructor de IdempotencyStore.
+     *
+     * @param objectMapper mapeador JSON utilizado para calcular la huella de los cuerpos.
+     * @param maxEntries cantidad máxima de claves almacenadas; se descartan las menos usadas.
+     * @param ttlSeconds segundos que se conserva la respuesta de una clave desde la primera solicitud.
+     */
+    public IdempotencyStore(ObjectMapper objectMapper,
+                            @Value("${user.idempotency.max-entries:10000}") long maxEntries,
+                            @Value("${user.idempotency.ttl-seconds:86400}") long ttlSeconds) {
+        this.objectMapper = objectMapper;
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        this.hmacKey = new SecretKeySpec(key, HMAC_ALGORITHM);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "idempotentResponses");
+    }
+
+    /**
+     * Ejecuta una operación una sola vez por clave de idempotencia. Sin clave, la operación se ejecuta siempre.
+     *
+     * @param operation nombre de la operación, por ejemplo el método y la ruta; la misma clave puede usarse en
+     *                  operaciones distintas.
+     * @param idempotencyKey la clave enviada por el cliente, o {@code null} si no la envió.
+     * @param body el cuerpo de la solicitud, cuya huella se asocia a la clave.
+     * @param handler la operación; devuelve el resultado pendiente de la solicitud.
+     * @param <T> tipo del cuerpo de la respuesta.
+     * @return el resultado de la operación, o el de la primera solicitud con la misma clave.
+     * @throws IdempotencyKeyException si la clave no es válida o ya se usó con otro cuerpo.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<ResponseEntity<T>> execute(String operation, String idempotencyKey, Object body,
+                                                            Supplier<CompletableFuture<ResponseEntity<T>>> handler) {
+        if (idempotencyKey == null) {
+            return handler.get();
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IdempotencyKeyException("La clave de idempotencia debe tener entre 1 y "
+                    + MAX_KEY_LENGTH + " caracteres");
+        }
+        String key = operation + ' ' + idempotencyKey;
+        Entry entry = new Entry(fingerprint(body));
+        Entry existing = cache.asMap().putIfAbsent(key, entry);
+        if (existing != null) {
+            if (!MessageDigest.isEqual(existing.fingerprint, entry.fingerprint)) {
+                throw new IdempotencyKeyException("La clave de idempotencia ya se usó con una solicitud distinta");
+            }
+            return existing.response.thenApply(response -> replayed((ResponseEntity<T>) response));
+        }
+        CompletableFuture<ResponseEntity<T>> response;
+        try {
+            response = handler.get();
+        } catch (RuntimeException e) {
+            cache.asMap().remove(key, entry);
+            entry.response.completeExceptionally(e);
+            throw e;
+        }
+        response.whenComplete((result, error) -> {
+            if (error != null || !result.getStatusCode().is2xxSuccessful()) {
+                cache.asMap().remove(key, entry);
+            }
+            if (error != null) {
+                entry.response.completeExceptionally(error);
+            } else {
+                entry.response.complete(result);
+            }
+        });
+        return response;
+    }
+
+    private static <T> ResponseEntity<T> replayed(ResponseEntity<T> response) {
+        return ResponseEntity.status(response.getStatusCode())
+                .headers(response.getHeaders())
+                .header(REPLAYED_HEADER, "true")
+                .body(response.getBody());
+    }
+
+    private byte[] fingerprint(Object body) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(hmacKey);
+            return mac.doFinal(objectMapper.writeValueAsBytes(body));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("No se pudo calcular la huella de la solicitud", e);
+        }
+    }
+
+    private static final class Entry {
+        private final byte[] fingerprint;
+        private final CompletableFuture<ResponseEntity<?>> response = new CompletableFuture<>();
+
+        private Entry(byte[] fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+    }
+}
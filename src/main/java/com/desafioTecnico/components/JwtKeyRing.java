@@ -0,0 +1,87 @@
+package com.desafioTecnico.components;
+
+import com.desafioTecnico.configuration.JwtProperties;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Conjunto de claves HMAC utilizadas para firmar y verificar los tokens JWT.
+ * Si no hay claves configuradas se genera una clave efímera, válida solo mientras el proceso esté activo.
+ */
+@Component
+public class JwtKeyRing {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtKeyRing.class);
+
+    private static final String EPHEMERAL_KEY_ID = "ephemeral";
+
+    private final Map<String, SecretKey> keys = new HashMap<>();
+
+    private final String activeKeyId;
+
+    /**
+     * Constructor de JwtKeyRing.
+     *
+     * @param properties propiedades con las claves configuradas y el identificador de la clave activa.
+     * @throws IllegalStateException si la clave activa no está configurada o alguna clave es demasiado corta.
+     */
+    public JwtKeyRing(JwtProperties properties) {
+        properties.getKeys().forEach((keyId, secret) -> {
+            if (secret == null || secret.isBlank()) {
+                return;
+            }
+            byte[] bytes = Base64.getDecoder().decode(secret.trim());
+            if (bytes.length < 64) {
+                throw new IllegalStateException("La clave JWT '" + keyId + "' debe tener al menos 64 bytes");
+            }
+            keys.put(keyId, Keys.hmacShaKeyFor(bytes));
+        });
+
+        if (keys.isEmpty()) {
+            log.warn("No hay claves JWT configuradas (user.jwt.keys); se usará una clave efímera");
+            keys.put(EPHEMERAL_KEY_ID, Keys.secretKeyFor(SignatureAlgorithm.HS512));
+            this.activeKeyId = EPHEMERAL_KEY_ID;
+        } else if (properties.getActiveKeyId() == null || !keys.containsKey(properties.getActiveKeyId())) {
+            throw new IllegalStateException("La clave JWT activa '" + properties.getActiveKeyId()
+                    + "' no está configurada en user.jwt.keys");
+        } else {
+            this.activeKeyId = properties.getActiveKeyId();
+        }
+    }
+
+    /**
+     * Obtiene el identificador de la clave con la que se firman los tokens nuevos.
+     *
+     * @return el identificador de la clave activa.
+     */
+    public String activeKeyId() {
+        return activeKeyId;
+    }
+
+    /**
+     * Obtiene la clave con la que se firman los tokens nuevos.
+     *
+     * @return la clave activa.
+     */
+    public SecretKey activeKey() {
+        return keys.get(activeKeyId);
+    }
+
+    /**
+     * Obtiene la clave con el identificador indicado.
+     *
+     * @param keyId el identificador de la cabecera {@code kid} del token.
+     * @return la clave, o {@code null} si no está configurada.
+     */
+    public SecretKey resolve(String keyId) {
+        return keyId == null ? null : keys.get(keyId);
+    }
+}
@@ -0,0 +1,160 @@
+package com.desafioTecnico.components;
+
+import com.desafioTecnico.repositories.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Escritura diferida de la fecha de último acceso de los usuarios.
+ * <p>
+ * Los inicios de sesión se acumulan en memoria, conservando solo la fecha más reciente de cada usuario, y se
+ * escriben periódicamente con sentencias JDBC por lotes, por lo que varios inicios de sesión de un mismo usuario
+ * entre dos escrituras producen un solo UPDATE. La cantidad de usuarios pendientes está acotada: si se alcanza el
+ * límite, el inicio de sesión se escribe de inmediato. Los pendientes se escriben también al detener la aplicación.
+ * La cantidad de usuarios pendientes se publica como métrica {@code user.login.last-login.pending}.
+ */
+@Component
+public class LastLoginWriter implements MeterBinder {
+
+    private static final String UPDATE_LAST_LOGIN = "UPDATE users SET last_login = ? " +
+            "WHERE id = ? AND (last_login IS NULL OR last_login < ?)";
+
+    private static final Logger log = LoggerFactory.getLogger(LastLoginWriter.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final UserRepository userRepository;
+
+    private final UserResponseCache userResponseCache;
+
+    private final int maxPending;
+
+    private final int batchSize;
+
+    private final Map<UUID, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor de LastLoginWriter.
+     *
+     * @param jdbcTemplate plantilla JDBC utilizada para las actualizaciones por lotes.
+     * @param userRepository repositorio utilizado para escribir de inmediato cuando no hay lugar en memoria.
+     * @param userResponseCache caché de respuestas que se invalida al escribir la nueva fecha.
+     * @param maxPending cantidad máxima de usuarios con una fecha pendiente de escribir.
+     * @param batchSize cantidad de actualizaciones enviadas en cada lote JDBC.
+     */
+    public LastLoginWriter(JdbcTemplate jdbcTemplate, UserRepository userRepository,
+                           UserResponseCache userResponseCache,
+                           @Value("${user.login.last-login.max-pending:100000}") int maxPending,
+                           @Value("${user.login.last-login.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.userRepository = userRepository;
+        this.userResponseCache = userResponseCache;
+        this.maxPending = maxPending;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("user.login.last-login.pending", pending, Map::size)
+                .description("Usuarios con una fecha de último acceso pendiente de escribir")
+                .register(registry);
+    }
+
+    /**
+     * Registra un inicio de sesión. Si el usuario ya tenía una fecha pendiente, se conserva la más reciente.
+     * Si la cantidad de pendientes alcanzó el límite, la fecha se escribe de inmediato; el límite se controla
+     * sin bloqueos, por lo que puede superarse levemente con inicios de sesión concurrentes.
+     *
+     * @param userId el ID del usuario.
+     * @param lastLogin la fecha del inicio de sesión.
+     */
+    public void record(UUID userId, LocalDateTime lastLogin) {
+        if (pending.size() >= maxPending && !pending.containsKey(userId)) {
+            userRepository.updateLastLogin(userId, lastLogin);
+            userResponseCache.invalidate(userId);
+            return;
+        }
+        keepLatest(userId, lastLogin);
+    }
+
+    /**
+     * Escribe las fechas pendientes en lotes e invalida las respuestas en caché de los usuarios afectados.
+     * Si un lote falla, sus fechas vuelven a quedar pendientes para la siguiente escritura.
+     */
+    @Scheduled(fixedDelayString = "${user.login.last-login.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        List<Object[]> batch = new ArrayList<>(Math.min(pending.size(), batchSize));
+        List<UUID> ids = new ArrayList<>(batch.size());
+        for (UUID id : new ArrayList<>(pending.keySet())) {
+            LocalDateTime lastLogin = pending.remove(id);
+            if (lastLogin == null) {
+                continue;
+            }
+            Timestamp timestamp = Timestamp.valueOf(lastLogin);
+            batch.add(new Object[]{timestamp, id, timestamp});
+            ids.add(id);
+            if (batch.size() == batchSize) {
+                write(batch, ids);
+                batch.clear();
+                ids.clear();
+            }
+        }
+        write(batch, ids);
+    }
+
+    /**
+     * Escribe las fechas pendientes antes de detener la aplicación.
+     */
+    @PreDestroy
+    public void close() {
+        flush();
+        if (!pending.isEmpty()) {
+            log.warn("No se pudieron escribir {} fechas de último acceso al detener la aplicación", pending.size());
+        }
+    }
+
+    /**
+     * Obtiene la cantidad de usuarios con una fecha pendiente de escribir.
+     *
+     * @return la cantidad de pendientes.
+     */
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    private void write(List<Object[]> batch, List<UUID> ids) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_LAST_LOGIN, batch);
+        } catch (RuntimeException e) {
+            log.warn("No se pudo escribir un lote de {} fechas de último acceso", batch.size(), e);
+            for (Object[] row : batch) {
+                keepLatest((UUID) row[1], ((Timestamp) row[0]).toLocalDateTime());
+            }
+            return;
+        }
+        ids.forEach(userResponseCache::invalidate);
+    }
+
+    private void keepLatest(UUID userId, LocalDateTime lastLogin) {
+        pending.merge(userId, lastLogin, (current, candidate) -> candidate.isAfter(current) ? candidate : current);
+    }
+}
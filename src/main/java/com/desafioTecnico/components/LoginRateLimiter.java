@@ -0,0 +1,139 @@
+package com.desafioTecnico.components;
+
+import com.desafioTecnico.exceptions.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limitador de intentos de inicio de sesión basado en token buckets por correo y por dirección IP.
+ * Se consulta antes de verificar la contraseña con BCrypt, de modo que el tráfico de credential
+ * stuffing se rechaza sin consumir CPU en el cálculo del hash.
+ */
+@Component
+public class LoginRateLimiter {
+
+    private static final String TOO_MANY_ATTEMPTS = "Demasiados intentos de inicio de sesión, intente más tarde";
+
+    private final Map<String, TokenBucket> emailBuckets = new ConcurrentHashMap<>();
+
+    private final Map<String, TokenBucket> ipBuckets = new ConcurrentHashMap<>();
+
+    private final int emailCapacity;
+
+    private final double emailRefillPerNano;
+
+    private final int ipCapacity;
+
+    private final double ipRefillPerNano;
+
+    /**
+     * Constructor de LoginRateLimiter.
+     *
+     * @param emailCapacity cantidad máxima de intentos acumulables por correo.
+     * @param emailRefillPerMinute intentos que se recuperan por minuto para cada correo.
+     * @param ipCapacity cantidad máxima de intentos acumulables por dirección IP.
+     * @param ipRefillPerMinute intentos que se recuperan por minuto para cada dirección IP.
+     */
+    public LoginRateLimiter(@Value("${user.login.rate-limit.email.capacity:5}") int emailCapacity,
+                            @Value("${user.login.rate-limit.email.refill-per-minute:5}") int emailRefillPerMinute,
+                            @Value("${user.login.rate-limit.ip.capacity:20}") int ipCapacity,
+                            @Value("${user.login.rate-limit.ip.refill-per-minute:60}") int ipRefillPerMinute) {
+        this.emailCapacity = emailCapacity;
+        this.emailRefillPerNano = emailRefillPerMinute / (double) TimeUnit.MINUTES.toNanos(1);
+        this.ipCapacity = ipCapacity;
+        this.ipRefillPerNano = ipRefillPerMinute / (double) TimeUnit.MINUTES.toNanos(1);
+    }
+
+    /**
+     * Consume un intento para el correo y la dirección IP indicados.
+     *
+     * @param email el correo con el que se intenta iniciar sesión.
+     * @param clientIp la dirección IP del cliente.
+     * @throws TooManyRequestsException si alguno de los dos límites fue superado.
+     */
+    public void acquire(String email, String clientIp) {
+        long now = System.nanoTime();
+        TokenBucket ipBucket = ipBuckets.computeIfAbsent(clientIp, key -> new TokenBucket(ipCapacity, ipRefillPerNano, now));
+        long ipWait = ipBucket.tryConsume(now);
+        if (ipWait > 0) {
+            throw new TooManyRequestsException(TOO_MANY_ATTEMPTS, toSeconds(ipWait));
+        }
+
+        String emailKey = email.toLowerCase();
+        TokenBucket emailBucket = emailBuckets.computeIfAbsent(emailKey,
+                key -> new TokenBucket(emailCapacity, emailRefillPerNano, now));
+        long emailWait = emailBucket.tryConsume(now);
+        if (emailWait > 0) {
+            throw new TooManyRequestsException(TOO_MANY_ATTEMPTS, toSeconds(emailWait));
+        }
+    }
+
+    /**
+     * Elimina periódicamente los buckets que ya se recargaron por completo; equivalen a un bucket nuevo,
+     * por lo que quitarlos no cambia el comportamiento y mantiene acotada la memoria utilizada.
+     */
+    @Scheduled(fixedDelayString = "${user.login.rate-limit.cleanup-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        emailBuckets.values().removeIf(bucket -> bucket.isFull(now));
+        ipBuckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    private static long toSeconds(long nanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(nanos) + 1);
+    }
+
+    /**
+     * Token bucket con recarga continua. Los métodos están sincronizados por bucket, por lo que
+     * solicitudes de distintos correos o direcciones IP no compiten entre sí.
+     */
+    private static final class TokenBucket {
+
+        private final int capacity;
+
+        private final double refillPerNano;
+
+        private double tokens;
+
+        private long lastRefill;
+
+        private TokenBucket(int capacity, double refillPerNano, long now) {
+            this.capacity = capacity;
+            this.refillPerNano = refillPerNano;
+            this.tokens = capacity;
+            this.lastRefill = now;
+        }
+
+        /**
+         * Intenta consumir un token.
+         *
+         * @param now instante actual en nanosegundos.
+         * @return cero si se consumió el token; en caso contrario, los nanosegundos hasta que haya uno disponible.
+         */
+        private synchronized long tryConsume(long now) {
+            refill(now);
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - tokens) / refillPerNano);
+        }
+
+        private synchronized boolean isFull(long now) {
+            refill(now);
+            return tokens >= capacity;
+        }
+
+        private void refill(long now) {
+            if (now > lastRefill) {
+                tokens = Math.min(capacity, tokens + (now - lastRefill) * refillPerNano);
+                lastRefill = now;
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.desafioTecnico.components;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Perfil de diagnóstico de una solicitud: cantidad de sentencias SQL, tiempo total en JDBC, tiempo de
+ * serialización JSON y bytes reservados por los hilos que atendieron la solicitud.
+ * <p>
+ * El perfil se asocia al hilo que ejecuta la solicitud; los componentes que miden algo lo obtienen con
+ * {@link #current()}, que devuelve {@code null} cuando la solicitud no se está perfilando, por lo que fuera
+ * del modo de diagnóstico el costo es una lectura de {@link ThreadLocal}.
+ */
+public final class RequestProfile {
+
+    private static final ThreadLocal<RequestProfile> CURRENT = new ThreadLocal<>();
+
+    private static final com.sun.management.ThreadMXBean THREADS = allocationTrackingThreadMXBean();
+
+    private final long startNanos = System.nanoTime();
+
+    private final AtomicLong statements = new AtomicLong();
+
+    private final AtomicLong jdbcNanos = new AtomicLong();
+
+    private final AtomicLong serializationNanos = new AtomicLong();
+
+    private final AtomicLong allocatedBytes = new AtomicLong();
+
+    /**
+     * Obtiene el perfil de la solicitud que se ejecuta en el hilo actual.
+     *
+     * @return el perfil, o {@code null} si la solicitud no se está perfilando.
+     */
+    public static RequestProfile current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Asocia este perfil al hilo actual hasta que se cierre el ámbito devuelto, y suma los bytes que reserve
+     * el hilo mientras tanto. Si el perfil ya está asociado al hilo actual, el ámbito no hace nada, para no
+     * contar dos veces.
+     *
+     * @return el ámbito que se debe cerrar al terminar.
+     */
+    public Scope open() {
+        RequestProfile previous = CURRENT.get();
+        if (previous == this) {
+            return () -> { };
+        }
+        CURRENT.set(this);
+        long allocatedBefore = threadAllocatedBytes();
+        return () -> {
+            allocatedBytes.addAndGet(threadAllocatedBytes() - allocatedBefore);
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    /**
+     * Ejecuta una tarea con este perfil asociado al hilo actual.
+     *
+     * @param task la tarea a ejecutar.
+     * @param <T> tipo del resultado.
+     * @return el resultado de la tarea.
+     */
+    public <T> T track(Supplier<T> task) {
+        try (Scope ignored = open()) {
+            return task.get();
+        }
+    }
+
+    /**
+     * Registra la ejecución de una sentencia SQL.
+     *
+     * @param nanos duración de la ejecución en nanosegundos.
+     */
+    public void recordStatement(long nanos) {
+        statements.incrementAndGet();
+        jdbcNanos.addAndGet(nanos);
+    }
+
+    /**
+     * Registra una serialización JSON.
+     *
+     * @param nanos duración de la serialización en nanosegundos.
+     */
+    public void recordSerialization(long nanos) {
+        serializationNanos.addAndGet(nanos);
+    }
+
+    public long getStatements() {
+        return statements.get();
+    }
+
+    public double getJdbcMillis() {
+        return jdbcNanos.get() / 1_000_000.0;
+    }
+
+    public double getSerializationMillis() {
+        return serializationNanos.get() / 1_000_000.0;
+    }
+
+    /**
+     * Bytes reservados por los hilos de la solicitud, o -1 si la JVM no permite medirlos.
+     *
+     * @return los bytes reservados.
+     */
+    public long getAllocatedBytes() {
+        return THREADS != null ? allocatedBytes.get() : -1;
+    }
+
+    public double getElapsedMillis() {
+        return (System.nanoTime() - startNanos) / 1_000_000.0;
+    }
+
+    /**
+     * Da formato al perfil como valor de la cabecera {@code Server-Timing}.
+     *
+     * @return el valor de la cabecera.
+     */
+    public String toServerTiming() {
+        StringBuilder value = new StringBuilder()
+                .append(String.format(Locale.ROOT, "db;desc=\"sentencias=%d\";dur=%.2f", getStatements(), getJdbcMillis()))
+                .append(String.format(Locale.ROOT, ", ser;dur=%.2f", getSerializationMillis()));
+        if (getAllocatedBytes() >= 0) {
+            value.append(", alloc;desc=\"bytes=").append(getAllocatedBytes()).append('"');
+        }
+        return value.append(String.format(Locale.ROOT, ", total;dur=%.2f", getElapsedMillis())).toString();
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "sentencias=%d, jdbc=%.2fms, serialización=%.2fms, bytes=%d, total=%.2fms",
+                getStatements(), getJdbcMillis(), getSerializationMillis(), getAllocatedBytes(), getElapsedMillis());
+    }
+
+    private static long threadAllocatedBytes() {
+        return THREADS != null ? THREADS.getThreadAllocatedBytes(Thread.currentThread().getId()) : 0;
+    }
+
+    private static com.sun.management.ThreadMXBean allocationTrackingThreadMXBean() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean allocationThreads = (com.sun.management.ThreadMXBean) threads;
+            if (allocationThreads.isThreadAllocatedMemorySupported()
+                    && allocationThreads.isThreadAllocatedMemoryEnabled()) {
+                return allocationThreads;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Ámbito en el que un perfil está asociado al hilo actual.
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
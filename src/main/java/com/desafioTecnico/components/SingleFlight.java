@@ -0,0 +1,90 @@
+package com.desafioTecnico.components;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Agrupa las ejecuciones concurrentes de una misma operación por clave: mientras una ejecución está en curso,
+ * las llamadas con la misma clave esperan su resultado en lugar de repetirla, y reciben el mismo valor o la misma
+ * excepción. El resultado no se conserva una vez terminada la ejecución, por lo que no reemplaza a una caché.
+ * <p>
+ * Publica el contador {@code <nombre>} con la etiqueta {@code result=executed} para las ejecuciones y
+ * {@code result=coalesced} para las llamadas que esperaron una ejecución en curso, y el indicador
+ * {@code <nombre>.in-flight} con las ejecuciones en curso.
+ *
+ * @param <K> tipo de la clave.
+ * @param <V> tipo del resultado.
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter executed;
+
+    private final Counter coalesced;
+
+    /**
+     * Constructor de SingleFlight.
+     *
+     * @param name nombre de las métricas.
+     * @param description descripción de las llamadas contadas.
+     * @param meterRegistry registro de métricas.
+     */
+    public SingleFlight(String name, String description, MeterRegistry meterRegistry) {
+        this.executed = Counter.builder(name).description(description).tag("result", "executed")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder(name).description(description).tag("result", "coalesced")
+                .register(meterRegistry);
+        Gauge.builder(name + ".in-flight", inFlight, Map::size)
+                .description("Ejecuciones en curso")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Ejecuta la operación, o espera la ejecución en curso con la misma clave y devuelve su resultado.
+     *
+     * @param key la clave de la operación.
+     * @param task la operación, que se ejecuta en el hilo actual si no hay otra en curso.
+     * @return el resultado de la operación.
+     */
+    public V execute(K key, Supplier<V> task) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+        executed.increment();
+        try {
+            V value = task.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    private static <V> V await(CompletableFuture<V> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.desafioTecnico.components;
+
+import com.desafioTecnico.dtos.TokenClaimsDto;
+import com.desafioTecnico.repositories.UserRepository;
+import com.desafioTecnico.repositories.UserTokenVersionView;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lista en memoria de tokens revocados, consultada en cada verificación sin acceder a la base de datos.
+ * <p>
+ * Combina dos mecanismos: una lista de identificadores de token ({@code jti}) revocados individualmente,
+ * por ejemplo al cerrar sesión, que se compacta periódicamente eliminando los tokens ya expirados; y la
+ * versión mínima de tokens aceptada por usuario, que invalida de una vez todos los tokens de un usuario.
+ * Solo se guardan las versiones de los usuarios que revocaron sus tokens, y se cargan desde la tabla
+ * {@code users} al iniciar la aplicación.
+ */
+@Component
+public class TokenRevocationList {
+
+    private final UserRepository userRepository;
+
+    private final Map<String, Instant> revokedTokenIds = new ConcurrentHashMap<>();
+
+    private final Map<UUID, Integer> minimumVersions = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor de TokenRevocationList.
+     *
+     * @param userRepository repositorio utilizado para cargar las versiones de tokens al iniciar.
+     */
+    public TokenRevocationList(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * Carga las versiones de tokens de los usuarios que revocaron sus tokens.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        for (UserTokenVersionView user : userRepository.findByTokenVersionGreaterThan(0)) {
+            raiseMinimumVersion(user.getId(), user.getTokenVersion());
+        }
+    }
+
+    /**
+     * Revoca un token individual hasta su expiración.
+     *
+     * @param tokenId el identificador ({@code jti}) del token.
+     * @param expiresAt la fecha de expiración del token, a partir de la cual puede descartarse de la lista.
+     */
+    public void revoke(String tokenId, Instant expiresAt) {
+        revokedTokenIds.put(tokenId, expiresAt != null ? expiresAt : Instant.MAX);
+    }
+
+    /**
+     * Invalida los tokens de un usuario emitidos con una versión menor a la indicada. Si hay una transacción
+     * activa, el cambio se aplica al confirmarse, para no rechazar los tokens vigentes si la transacción
+     * que incrementa la versión se revierte.
+     *
+     * @param userId el ID del usuario.
+     * @param version la versión mínima aceptada.
+     */
+    public void raiseMinimumVersion(UUID userId, int version) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    minimumVersions.merge(userId, version, Math::max);
+                }
+            });
+        } else {
+            minimumVersions.merge(userId, version, Math::max);
+        }
+    }
+
+    /**
+     * Indica si un token fue revocado, individualmente o por su versión.
+     *
+     * @param claims los datos del token verificado.
+     * @return {@code true} si el token no debe aceptarse.
+     */
+    public boolean isRevoked(TokenClaimsDto claims) {
+        if (claims.getTokenId() != null && revokedTokenIds.containsKey(claims.getTokenId())) {
+            return true;
+        }
+        if (claims.getUserId() == null) {
+            return false;
+        }
+        Integer minimumVersion = minimumVersions.get(claims.getUserId());
+        return minimumVersion != null && claims.getTokenVersion() < minimumVersion;
+    }
+
+    /**
+     * Elimina de la lista los tokens revocados que ya expiraron, ya que la verificación de firma los rechaza.
+     */
+    @Scheduled(fixedDelayString = "${user.jwt.revocation.compaction-interval-ms:60000}")
+    public void compact() {
+        Instant now = Instant.now();
+        revokedTokenIds.values().removeIf(expiresAt -> expiresAt.isBefore(now));
+    }
+
+    /**
+     * Obtiene la cantidad de tokens revocados individualmente que siguen en la lista.
+     *
+     * @return la cantidad de identificadores de token revocados.
+     */
+    public int revokedTokenCount() {
+        return revokedTokenIds.size();
+    }
+}
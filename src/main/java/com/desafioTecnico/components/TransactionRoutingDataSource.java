@@ -0,0 +1,44 @@
+package com.desafioTecnico.components;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Fuente de datos que envía las conexiones de las transacciones de solo lectura a la réplica y todas las demás
+ * a la base de datos principal. Las escrituras fuera de una transacción, como las de {@code JdbcTemplate} en los
+ * componentes programados, usan siempre la principal.
+ * <p>
+ * La decisión se toma al obtener la conexión, por lo que esta fuente de datos debe envolverse en un
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: el gestor de transacciones pide la
+ * conexión al iniciar la transacción, antes de marcarla como de solo lectura, y el proxy la obtiene recién en la
+ * primera sentencia.
+ */
+public class TransactionRoutingDataSource extends AbstractRoutingDataSource {
+
+    /**
+     * Destino de una conexión.
+     */
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+
+    /**
+     * Constructor de TransactionRoutingDataSource.
+     *
+     * @param primary fuente de datos de la base de datos principal.
+     * @param replica fuente de datos de la réplica de lectura.
+     */
+    public TransactionRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? Route.REPLICA : Route.PRIMARY;
+    }
+}
@@ -0,0 +1,195 @@
+package com.desafioTecnico.components;
+
+import com.desafioTecnico.dtos.CacheStatsDto;
+import com.desafioTecnico.dtos.SerializedUserDto;
+import com.desafioTecnico.dtos.UserResponseDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Caché de lectura de las respuestas JSON de usuarios, indexada por ID.
+ * Guarda la respuesta ya serializada junto con su ETag, por lo que un acierto no consulta la base de datos
+ * ni invoca a Jackson. El ETag se calcula una sola vez y tiene la forma {@code "<versión>.<hash>"}: el hash del
+ * contenido serializado cambia con cualquier modificación visible del usuario y sirve para {@code If-None-Match},
+ * mientras que la versión de la entidad permite validar {@code If-Match} en las modificaciones. El tamaño total se limita por cantidad de bytes y cada
+ * entrada expira tras un tiempo configurable. Sus estadísticas se publican como métricas {@code cache.*}
+ * con la etiqueta {@code cache=userResponses}.
+ */
+@Component
+public class UserResponseCache implements MeterBinder {
+
+    private final ObjectMapper objectMapper;
+
+    private final Cache<UUID, SerializedUserDto> cache;
+
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * Constructor de UserResponseCache.
+     *
+     * @param objectMapper mapeador JSON utilizado para serializar las respuestas.
+     * @param maxBytes cantidad máxima de bytes almacenados; se descartan las entradas menos usadas.
+     * @param ttlSeconds segundos que una respuesta permanece en la caché desde que se almacena.
+     */
+    public UserResponseCache(ObjectMapper objectMapper,
+                             @Value("${user.cache.max-bytes:16777216}") long maxBytes,
+                             @Value("${user.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((UUID id, SerializedUserDto response) -> response.getJson().length)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Publica las estadísticas de la caché (aciertos, fallos, desalojos y tamaño) en el registro de métricas.
+     *
+     * @param registry registro de métricas.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "userResponses");
+    }
+
+    /**
+     * Obtiene la respuesta serializada de un usuario. Si no está en la caché, se obtiene con el cargador
+     * indicado, se serializa y se almacena; las excepciones del cargador se propagan sin almacenar nada.
+     *
+     * @param id el ID del usuario.
+     * @param loader función que obtiene el objeto a serializar cuando no está en la caché.
+     * @return la respuesta JSON del usuario junto con su ETag.
+     */
+    public SerializedUserDto get(UUID id, Function<UUID, ?> loader) {
+        SerializedUserDto cached = getIfPresent(id);
+        return cached != null ? cached : load(id, loader);
+    }
+
+    /**
+     * Obtiene la respuesta serializada de un usuario si está en la caché.
+     *
+     * @param id el ID del usuario.
+     * @return la respuesta JSON del usuario junto con su ETag, o {@code null} si no está en la caché.
+     */
+    public SerializedUserDto getIfPresent(UUID id) {
+        return cache.getIfPresent(id);
+    }
+
+    /**
+     * Obtiene un usuario con el cargador indicado, lo serializa y lo almacena. La carga se ejecuta fuera de los
+     * bloqueos de la caché; si mientras tanto se invalidó alguna respuesta, el resultado se devuelve pero no se
+     * conserva, para no almacenar una versión leída antes del cambio. Las excepciones del cargador se propagan
+     * sin almacenar nada.
+     *
+     * @param id el ID del usuario.
+     * @param loader función que obtiene el objeto a serializar.
+     * @return la respuesta JSON del usuario junto con su ETag.
+     */
+    public SerializedUserDto load(UUID id, Function<UUID, ?> loader) {
+        long generation = invalidations.get();
+        SerializedUserDto loaded = serialize(loader.apply(id));
+        cache.put(id, loaded);
+        if (invalidations.get() != generation) {
+            cache.asMap().remove(id, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * Descarta la respuesta almacenada de un usuario. Si hay una transacción activa, la respuesta se descarta
+     * también al confirmarse, para no conservar una versión leída antes de que el cambio fuera visible.
+     *
+     * @param id el ID del usuario modificado o eliminado.
+     */
+    public void invalidate(UUID id) {
+        evict(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(id);
+                }
+            });
+        }
+    }
+
+    /**
+     * Obtiene las métricas de uso de la caché.
+     *
+     * @return los aciertos, fallos y desalojos registrados desde el arranque.
+     */
+    public CacheStatsDto stats() {
+        CacheStats stats = cache.stats();
+        return new CacheStatsDto(stats.hitCount(), stats.missCount(), stats.hitRate(), stats.evictionCount(),
+                stats.evictionWeight(), cache.estimatedSize());
+    }
+
+    /**
+     * Indica si alguno de los ETags de una cabecera {@code If-Match} corresponde a la versión indicada.
+     * La comparación es fuerte: los ETags débiles nunca coinciden y solo se reconocen los generados por esta
+     * caché o el comodín {@code *}.
+     *
+     * @param ifMatch el valor de la cabecera, con uno o más ETags separados por comas.
+     * @param version la versión actual de la entidad.
+     * @return {@code true} si la modificación puede aplicarse sobre esa versión.
+     */
+    public static boolean matchesVersion(String ifMatch, Long version) {
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            int separator = tag.indexOf('.');
+            if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"") && separator > 1
+                    && tag.substring(1, separator).equals(String.valueOf(version))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void evict(UUID id) {
+        invalidations.incrementAndGet();
+        cache.invalidate(id);
+    }
+
+    private SerializedUserDto serialize(Object value) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(value);
+            Long version = value instanceof UserResponseDto ? ((UserResponseDto) value).getVersion() : null;
+            return new SerializedUserDto(json, etag(version, json));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String etag(Long version, byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return "\"" + (version != null ? version + "." : "") + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.desafioTecnico.components;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+
+/**
+ * Caché acotada de credenciales verificadas recientemente.
+ * Guarda, por correo, un HMAC-SHA256 de la contraseña que ya superó la verificación BCrypt junto con
+ * el hash almacenado en ese momento; un nuevo inicio de sesión con la misma contraseña y el mismo hash
+ * se acepta sin repetir BCrypt. La clave del HMAC se genera al arrancar y nunca sale del proceso,
+ * por lo que las entradas no sirven para atacar las contraseñas fuera de él. Sus estadísticas se publican
+ * como métricas {@code cache.*} con la etiqueta {@code cache=verifiedCredentials}.
+ */
+@Component
+public class VerifiedCredentialCache implements MeterBinder {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec hmacKey;
+
+    private final Cache<String, Entry> cache;
+
+    /**
+     * Constructor de VerifiedCredentialCache.
+     *
+     * @param maxEntries cantidad máxima de correos almacenados; se descartan los menos usados.
+     * @param ttlSeconds segundos durante los que una verificación sigue siendo válida.
+     */
+    public VerifiedCredentialCache(@Value("${user.login.credential-cache.max-entries:10000}") long maxEntries,
+                                   @Value("${user.login.credential-cache.ttl-seconds:300}") long ttlSeconds) {
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        this.hmacKey = new SecretKeySpec(key, HMAC_ALGORITHM);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Publica las estadísticas de la caché (aciertos, fallos, desalojos y tamaño) en el registro de métricas.
+     *
+     * @param registry registro de métricas.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "verifiedCredentials");
+    }
+
+    /**
+     * Indica si la contraseña ya fue verificada contra el hash almacenado actualmente.
+     *
+     * @param email el correo del usuario.
+     * @param rawPassword la contraseña en texto plano recibida.
+     * @param hashedPassword el hash almacenado en la base de datos.
+     * @return {@code true} si existe una verificación vigente para esa contraseña y ese hash.
+     */
+    public boolean isVerified(String email, String rawPassword, String hashedPassword) {
+        Entry entry = cache.getIfPresent(email);
+        if (entry == null || !entry.hashedPassword.equals(hashedPassword)) {
+            return false;
+        }
+        return MessageDigest.isEqual(entry.digest, digest(rawPassword));
+    }
+
+    /**
+     * Registra una verificación exitosa de la contraseña.
+     *
+     * @param email el correo del usuario.
+     * @param rawPassword la contraseña en texto plano verificada.
+     * @param hashedPassword el hash contra el que se verificó.
+     */
+    public void markVerified(String email, String rawPassword, String hashedPassword) {
+        cache.put(email, new Entry(digest(rawPassword), hashedPassword));
+    }
+
+    /**
+     * Elimina la verificación asociada a un correo, por ejemplo cuando cambia la contraseña.
+     *
+     * @param email el correo del usuario.
+     */
+    public void invalidate(String email) {
+        cache.invalidate(email);
+    }
+
+    private byte[] digest(String rawPassword) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(hmacKey);
+            return mac.doFinal(rawPassword.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("No se pudo calcular el HMAC de la contraseña", e);
+        }
+    }
+
+    private static final class Entry {
+        private final byte[] digest;
+        private final String hashedPassword;
+
+        private Entry(byte[] digest, String hashedPassword) {
+            this.digest = digest;
+            this.hashedPassword = hashedPassword;
+        }
+    }
+}
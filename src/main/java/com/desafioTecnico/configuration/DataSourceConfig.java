@@ -0,0 +1,66 @@
+package com.desafioTecnico.configuration;
+
+import com.desafioTecnico.components.TransactionRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuración de la separación de lecturas y escrituras, activada con {@code user.datasource.replica.enabled}.
+ * Define un pool Hikari para la base de datos principal ({@code spring.datasource.*}) y otro para la réplica
+ * ({@code user.datasource.replica.*}); las transacciones de solo lectura usan la réplica y el resto la principal.
+ * Sin esta propiedad, Spring Boot configura una sola fuente de datos como de costumbre.
+ */
+@Configuration
+@ConditionalOnProperty(name = "user.datasource.replica.enabled", havingValue = "true")
+public class DataSourceConfig {
+
+    /**
+     * Pool de conexiones de la base de datos principal, configurado con {@code spring.datasource.*} y
+     * {@code spring.datasource.hikari.*}.
+     *
+     * @param properties propiedades de la fuente de datos de Spring Boot.
+     * @return el pool de la base de datos principal.
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * Pool de conexiones de la réplica de lectura, configurado con las propiedades de Hikari bajo
+     * {@code user.datasource.replica.*} ({@code jdbc-url}, {@code username}, {@code maximum-pool-size}, etc.).
+     *
+     * @return el pool de la réplica.
+     */
+    @Bean
+    @ConfigurationProperties("user.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        return new HikariDataSource();
+    }
+
+    /**
+     * Fuente de datos que usan JPA, {@code JdbcTemplate} y la inicialización del esquema. Las conexiones se
+     * obtienen recién en la primera sentencia, cuando ya se sabe si la transacción es de solo lectura; una
+     * transacción sin sentencias, por ejemplo un acierto de caché, no ocupa una conexión de ningún pool.
+     *
+     * @param primary pool de la base de datos principal.
+     * @param replica pool de la réplica.
+     * @return la fuente de datos con enrutamiento por transacción.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica) {
+        return new LazyConnectionDataSourceProxy(new TransactionRoutingDataSource(primary, replica));
+    }
+}
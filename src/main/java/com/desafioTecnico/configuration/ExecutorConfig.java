@@ -0,0 +1,117 @@
+package com.desafioTecnico.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.TaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuración de los pools de hilos dedicados de la aplicación.
+ * Cada pool tiene un tamaño y una cola acotados para que el trabajo intensivo en CPU
+ * no pueda agotar los hilos del servidor web.
+ */
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * Declara el ejecutor de tareas por defecto de Spring, que la autoconfiguración omite cuando existen
+     * otros beans de tipo {@link java.util.concurrent.Executor}. Lo utilizan Spring MVC para las respuestas
+     * asíncronas (por ejemplo, la exportación en streaming) y {@code @Async}.
+     *
+     * @param builder constructor configurado con las propiedades {@code spring.task.execution.*}.
+     * @return el ejecutor de tareas de la aplicación.
+     */
+    @Lazy
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    public ThreadPoolTaskExecutor applicationTaskExecutor(TaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    /**
+     * Crea el pool de hilos dedicado al cálculo de hashes BCrypt.
+     * Cuando todos los hilos están ocupados y la cola está llena, las nuevas tareas se rechazan
+     * inmediatamente en lugar de bloquear al hilo que atiende la solicitud.
+     *
+     * @param poolSize cantidad de hilos; si es menor o igual a cero se usa la cantidad de procesadores disponibles.
+     * @param queueCapacity cantidad máxima de tareas en espera.
+     * @return el pool de hilos para el cálculo de hashes.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService passwordHashExecutor(@Value("${user.password.hash.pool-size:0}") int poolSize,
+                                                @Value("${user.password.hash.queue-capacity:64}") int queueCapacity) {
+        return boundedExecutor("password-hash-", poolSize, queueCapacity, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Crea el pool de hilos utilizado por el registro masivo para validar y cifrar contraseñas.
+     * Es independiente del pool de registros individuales; cuando está saturado, la tarea se ejecuta
+     * en el hilo que atiende la importación, lo que frena la lectura de registros en lugar de rechazarlos.
+     *
+     * @param poolSize cantidad de hilos; si es menor o igual a cero se usa la mitad de los procesadores disponibles.
+     * @param queueCapacity cantidad máxima de tareas en espera.
+     * @return el pool de hilos para el registro masivo.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService bulkRegistrationExecutor(@Value("${user.bulk.pool-size:0}") int poolSize,
+                                                    @Value("${user.bulk.queue-capacity:256}") int queueCapacity) {
+        int threads = poolSize > 0 ? poolSize : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return boundedExecutor("bulk-registration-", threads, queueCapacity, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * Crea el ejecutor en el que se atienden las solicitudes del API de usuarios que esperan por la base de
+     * datos o por BCrypt. Con {@code user.async.enabled=false} (por defecto) las solicitudes se resuelven en el
+     * hilo del servidor web, como hasta ahora; con {@code true} se resuelven en un pool dedicado y el hilo del
+     * servidor queda libre para aceptar otras conexiones mientras tanto. Cuando el pool y su cola están llenos,
+     * la solicitud se rechaza de inmediato.
+     *
+     * @param enabled indica si las solicitudes se atienden en el pool dedicado.
+     * @param poolSize cantidad de hilos; si es menor o igual a cero se usan cuatro por procesador disponible.
+     * @param queueCapacity cantidad máxima de solicitudes en espera.
+     * @return el ejecutor de solicitudes.
+     */
+    @Bean
+    public Executor userRequestExecutor(@Value("${user.async.enabled:false}") boolean enabled,
+                                        @Value("${user.async.pool-size:0}") int poolSize,
+                                        @Value("${user.async.queue-capacity:1000}") int queueCapacity) {
+        if (!enabled) {
+            return Runnable::run;
+        }
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors() * 4;
+        return boundedExecutor("user-request-", threads, queueCapacity, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Crea un pool de hilos de tamaño fijo con una cola acotada.
+     *
+     * @param threadNamePrefix prefijo del nombre de los hilos.
+     * @param poolSize cantidad de hilos; si es menor o igual a cero se usa la cantidad de procesadores disponibles.
+     * @param queueCapacity cantidad máxima de tareas en espera; cero para no encolar tareas.
+     * @param rejectionPolicy política a aplicar cuando el pool y la cola están llenos.
+     * @return el pool de hilos creado.
+     */
+    static ThreadPoolExecutor boundedExecutor(String threadNamePrefix, int poolSize, int queueCapacity,
+                                              RejectedExecutionHandler rejectionPolicy) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        BlockingQueue<Runnable> queue = queueCapacity > 0
+                ? new ArrayBlockingQueue<>(queueCapacity)
+                : new SynchronousQueue<>();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, queue,
+                new CustomizableThreadFactory(threadNamePrefix), rejectionPolicy);
+    }
+}
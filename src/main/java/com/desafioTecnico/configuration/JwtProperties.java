@@ -0,0 +1,38 @@
+package com.desafioTecnico.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Propiedades de emisión y verificación de tokens JWT ({@code user.jwt.*}).
+ * Las claves se declaran por identificador ({@code kid}) para poder rotarlas: los tokens se firman con la
+ * clave activa y se verifican con la clave indicada en su cabecera, mientras siga configurada.
+ */
+@Data
+@ConfigurationProperties(prefix = "user.jwt")
+public class JwtProperties {
+
+    /**
+     * Identificador de la clave con la que se firman los tokens nuevos.
+     */
+    private String activeKeyId;
+
+    /**
+     * Claves HMAC en Base64 indexadas por identificador; cada una debe tener al menos 64 bytes (HS512).
+     */
+    private Map<String, String> keys = new LinkedHashMap<>();
+
+    /**
+     * Segundos de validez de los tokens emitidos.
+     */
+    private long expirationSeconds = 86400;
+
+    /**
+     * Cantidad máxima de tokens verificados que se mantienen en la caché.
+     */
+    private int verifiedCacheMaxEntries = 10000;
+
+}
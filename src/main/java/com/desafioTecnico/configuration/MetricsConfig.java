@@ -0,0 +1,43 @@
+package com.desafioTecnico.configuration;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Configuración de las métricas propias de la aplicación.
+ * Las métricas de Spring MVC, Hikari, Hibernate, los repositorios de Spring Data y la JVM las registra
+ * Spring Boot Actuator; aquí se agregan las de los pools de hilos dedicados, que Actuator no conoce.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Publica el tamaño, la cola y las tareas completadas de los pools de hilos dedicados como
+     * métricas {@code executor.*} con la etiqueta {@code name}.
+     *
+     * @param passwordHashExecutor pool de cálculo de hashes BCrypt.
+     * @param bulkRegistrationExecutor pool del registro masivo.
+     * @param userRequestExecutor ejecutor de solicitudes del API; solo se mide si es un pool.
+     * @return el registrador de las métricas de los pools.
+     */
+    @Bean
+    public MeterBinder executorMetrics(@Qualifier("passwordHashExecutor") ExecutorService passwordHashExecutor,
+                                       @Qualifier("bulkRegistrationExecutor") ExecutorService bulkRegistrationExecutor,
+                                       @Qualifier("userRequestExecutor") Executor userRequestExecutor) {
+        return registry -> {
+            new ExecutorServiceMetrics(passwordHashExecutor, "passwordHash", Tags.empty()).bindTo(registry);
+            new ExecutorServiceMetrics(bulkRegistrationExecutor, "bulkRegistration", Tags.empty()).bindTo(registry);
+            if (userRequestExecutor instanceof ExecutorService) {
+                new ExecutorServiceMetrics((ExecutorService) userRequestExecutor, "userRequest", Tags.empty())
+                        .bindTo(registry);
+            }
+        };
+    }
+}
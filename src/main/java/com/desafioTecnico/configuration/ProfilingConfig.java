@@ -0,0 +1,81 @@
+package com.desafioTecnico.configuration;
+
+import com.desafioTecnico.components.ProfilingDataSource;
+import com.desafioTecnico.components.ProfilingJackson2HttpMessageConverter;
+import com.desafioTecnico.filters.RequestProfilingFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.servlet.DispatcherType;
+import javax.sql.DataSource;
+
+/**
+ * Configuración del modo de diagnóstico por solicitud, activado con {@code user.profiling.enabled}.
+ * Reemplaza el registro de todas las sentencias SQL ({@code spring.jpa.show-sql}) por un perfil de las
+ * solicitudes seleccionadas que se devuelve en la cabecera {@code Server-Timing}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "user.profiling.enabled", havingValue = "true")
+public class ProfilingConfig {
+
+    /**
+     * Envuelve la fuente de datos para contar y medir las sentencias SQL de las solicitudes perfiladas.
+     * Solo se envuelve el bean {@code dataSource}, no los pools que hay detrás de él cuando se separan las
+     * lecturas y las escrituras ({@link DataSourceConfig}), para no contar dos veces cada sentencia.
+     *
+     * @return el post-procesador de la fuente de datos.
+     */
+    @Bean
+    public static BeanPostProcessor profilingDataSourceBeanPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource && !(bean instanceof ProfilingDataSource)
+                        && "dataSource".equals(beanName)) {
+                    return new ProfilingDataSource((DataSource) bean);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Registra el filtro de diagnóstico para las rutas {@code /api/v1/users}, antes que el filtro de
+     * autenticación para que el perfil incluya toda la solicitud.
+     *
+     * @param sampleRate fracción de solicitudes sin cabecera que se perfilan.
+     * @param slowRequestMillis duración a partir de la cual una solicitud perfilada se registra en el log.
+     * @param maxStatements cantidad de sentencias a partir de la cual una solicitud perfilada se registra en el log.
+     * @return el registro del filtro.
+     */
+    @Bean
+    public FilterRegistrationBean<RequestProfilingFilter> requestProfilingFilter(
+            @Value("${user.profiling.sample-rate:0.0}") double sampleRate,
+            @Value("${user.profiling.slow-request-ms:500}") long slowRequestMillis,
+            @Value("${user.profiling.max-statements:20}") long maxStatements) {
+        FilterRegistrationBean<RequestProfilingFilter> registration = new FilterRegistrationBean<>(
+                new RequestProfilingFilter(sampleRate, slowRequestMillis, maxStatements));
+        registration.addUrlPatterns("/api/v1/users", "/api/v1/users/*");
+        registration.setDispatcherTypes(DispatcherType.REQUEST, DispatcherType.ASYNC, DispatcherType.ERROR);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    /**
+     * Conversor JSON que mide el tiempo de serialización de las respuestas; Spring Boot lo usa en lugar
+     * del conversor Jackson por defecto.
+     *
+     * @param objectMapper mapeador JSON configurado por Spring Boot.
+     * @return el conversor.
+     */
+    @Bean
+    public ProfilingJackson2HttpMessageConverter profilingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new ProfilingJackson2HttpMessageConverter(objectMapper);
+    }
+}
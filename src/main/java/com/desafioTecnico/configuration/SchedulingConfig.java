@@ -0,0 +1,12 @@
+package com.desafioTecnico.configuration;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita la ejecución de tareas programadas ({@code @Scheduled}) de mantenimiento en segundo plano.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,30 @@
+package com.desafioTecnico.configuration;
+
+import com.desafioTecnico.filters.JwtAuthenticationFilter;
+import com.desafioTecnico.services.TokenService;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuración de la autenticación con tokens JWT de las rutas de usuarios.
+ */
+@Configuration
+@EnableConfigurationProperties(JwtProperties.class)
+public class SecurityConfig {
+
+    /**
+     * Registra el filtro de autenticación JWT solo para las rutas {@code /api/v1/users}.
+     *
+     * @param tokenService servicio utilizado para verificar los tokens.
+     * @return el registro del filtro.
+     */
+    @Bean
+    public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilter(TokenService tokenService) {
+        FilterRegistrationBean<JwtAuthenticationFilter> registration =
+                new FilterRegistrationBean<>(new JwtAuthenticationFilter(tokenService));
+        registration.addUrlPatterns("/api/v1/users", "/api/v1/users/*");
+        return registration;
+    }
+}
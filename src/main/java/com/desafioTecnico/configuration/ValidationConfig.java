@@ -0,0 +1,46 @@
+package com.desafioTecnico.configuration;
+
+import com.desafioTecnico.validators.EmailFormatValidator;
+import com.desafioTecnico.validators.PasswordPolicyValidator;
+import com.desafioTecnico.validators.ValidatorChain;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Configuración de las cadenas de validación de correos y contraseñas.
+ * Las reglas se construyen una sola vez al iniciar la aplicación; para agregar una regla basta
+ * con incluir un nuevo {@link com.desafioTecnico.validators.Validator} en la cadena correspondiente.
+ */
+@Configuration
+public class ValidationConfig {
+
+    /**
+     * Crea la cadena de validación del formato de correo electrónico.
+     *
+     * @param emailRegex expresión regular que debe cumplir el correo.
+     * @return la cadena de validación de correos.
+     */
+    @Bean
+    public ValidatorChain<String> emailValidatorChain(@Value("${user.email.regex}") String emailRegex) {
+        return new ValidatorChain<>(List.of(new EmailFormatValidator(emailRegex)));
+    }
+
+    /**
+     * Crea la cadena de validación de la política de contraseñas.
+     *
+     * @param minLength longitud mínima de la contraseña.
+     * @param maxLength longitud máxima de la contraseña.
+     * @param specialCharacters caracteres especiales aceptados.
+     * @return la cadena de validación de contraseñas.
+     */
+    @Bean
+    public ValidatorChain<String> passwordValidatorChain(
+            @Value("${user.password.min-length:8}") int minLength,
+            @Value("${user.password.max-length:20}") int maxLength,
+            @Value("${user.password.special-characters:@#$%^&+=}") String specialCharacters) {
+        return new ValidatorChain<>(List.of(new PasswordPolicyValidator(minLength, maxLength, specialCharacters)));
+    }
+}
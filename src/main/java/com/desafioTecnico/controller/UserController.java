@@ -1,16 +1,47 @@
 package com.desafioTecnico.controller;
 
+import com.desafioTecnico.components.IdempotencyStore;
+import com.desafioTecnico.components.RequestProfile;
+import com.desafioTecnico.dtos.BulkDeleteResultDto;
+import com.desafioTecnico.dtos.BulkRegistrationResultDto;
+import com.desafioTecnico.dtos.CacheStatsDto;
+import com.desafioTecnico.dtos.CursorPageDto;
+import com.desafioTecnico.dtos.LoginRequestDto;
+import com.desafioTecnico.dtos.LoginResponseDto;
+import com.desafioTecnico.dtos.SerializedUserDto;
+import com.desafioTecnico.dtos.TokenClaimsDto;
+import com.desafioTecnico.dtos.UserChangeFeedDto;
 import com.desafioTecnico.dtos.UserRequestDto;
+import com.desafioTecnico.dtos.UserResponseDto;
+import com.desafioTecnico.dtos.UserSearchCriteriaDto;
+import com.desafioTecnico.exceptions.ServiceBusyException;
+import com.desafioTecnico.filters.JwtAuthenticationFilter;
 import com.desafioTecnico.models.User;
+import com.desafioTecnico.services.BulkUserRegistrationService;
+import com.desafioTecnico.services.UserChangeService;
 import com.desafioTecnico.services.UserService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 
 /**
  * Controlador para manejar las operaciones relacionadas con los usuarios.
@@ -21,66 +52,332 @@ import java.util.UUID;
 @Validated
 public class UserController {
 
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
     private final UserService userService;
 
+    private final BulkUserRegistrationService bulkUserRegistrationService;
+
+    private final UserChangeService userChangeService;
+
+    private final ObjectMapper objectMapper;
+
+    private final Executor requestExecutor;
+
+    private final IdempotencyStore idempotencyStore;
+
     /**
      * Constructor que inicializa el controlador con el servicio de usuarios.
      *
      * @param userService Servicio de usuarios utilizado para las operaciones relacionadas con los usuarios.
+     * @param bulkUserRegistrationService Servicio utilizado para el registro masivo de usuarios.
+     * @param userChangeService Servicio utilizado para consultar el flujo de cambios de usuarios.
+     * @param objectMapper Mapeador JSON utilizado para leer y escribir los cuerpos en streaming.
+     * @param requestExecutor Ejecutor en el que se resuelven las solicitudes que esperan por la base de datos
+     *                        o por el cifrado de contraseñas.
+     * @param idempotencyStore Almacén de respuestas de las solicitudes con clave de idempotencia.
      */
-    public UserController(UserService userService) {
+    public UserController(UserService userService, BulkUserRegistrationService bulkUserRegistrationService,
+                          UserChangeService userChangeService, ObjectMapper objectMapper,
+                          @Qualifier("userRequestExecutor") Executor requestExecutor,
+                          IdempotencyStore idempotencyStore) {
         this.userService = userService;
+        this.bulkUserRegistrationService = bulkUserRegistrationService;
+        this.userChangeService = userChangeService;
+        this.objectMapper = objectMapper;
+        this.requestExecutor = requestExecutor;
+        this.idempotencyStore = idempotencyStore;
     }
 
     /**
      * Endpoint para registrar un nuevo usuario.
      *
+     * Si se envía la cabecera {@code Idempotency-Key}, un reintento con la misma clave y el mismo cuerpo
+     * devuelve la respuesta del primer registro sin volver a registrar al usuario.
+     *
      * @param userRequestDto DTO que contiene la información del usuario a registrar.
-     * @return ResponseEntity que contiene el usuario registrado y un código de estado HTTP.
-     *         Si hay un error, se devuelve un mensaje de error y un código de estado BAD_REQUEST.
+     * @param idempotencyKey clave de idempotencia opcional elegida por el cliente.
+     * @return ResponseEntity que contiene el usuario registrado con su token y un código de estado HTTP.
+     *         Si hay un error, se devuelve un mensaje de error y un código de estado BAD_REQUEST;
+     *         si la clave ya se usó con otro cuerpo, un código de estado UNPROCESSABLE_ENTITY.
      */
     @PostMapping("/register")
-    public ResponseEntity<User> registerUser(@RequestBody @Valid UserRequestDto userRequestDto) {
-        User user = userService.registerUser(userRequestDto);
-        return new ResponseEntity<>(user, HttpStatus.CREATED);
+    public CompletableFuture<ResponseEntity<UserResponseDto>> registerUser(@RequestBody @Valid UserRequestDto userRequestDto,
+                                                                           @RequestHeader(value = IdempotencyStore.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        return idempotencyStore.execute("POST /register", idempotencyKey, userRequestDto, () -> async(() -> {
+            User user = userService.registerUser(userRequestDto);
+            UserResponseDto response = UserResponseDto.from(user);
+            response.setToken(user.getToken());
+            return new ResponseEntity<>(response, HttpStatus.CREATED);
+        }));
+    }
+
+    /**
+     * Endpoint para registrar varios usuarios en una sola solicitud.
+     * Acepta un arreglo JSON o un documento NDJSON (un usuario por línea); el cuerpo se lee de forma
+     * incremental, por lo que no se carga completo en memoria. Si un registro no se puede leer, la lectura
+     * se detiene y el informe incluye ese registro como rechazado junto con los lotes ya confirmados.
+     *
+     * @param request solicitud HTTP cuyo cuerpo contiene los usuarios a registrar.
+     * @return ResponseEntity que contiene el resultado de cada registro y un código de estado HTTP.
+     *         Si el cuerpo no comienza con un JSON válido, se devuelve un código de estado BAD_REQUEST.
+     * @throws IOException si no se puede leer el cuerpo de la solicitud.
+     */
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, "application/x-ndjson"})
+    public ResponseEntity<BulkRegistrationResultDto> registerUsers(HttpServletRequest request) throws IOException {
+        try (MappingIterator<UserRequestDto> requests = objectMapper.readerFor(UserRequestDto.class)
+                .readValues(request.getInputStream())) {
+            BulkRegistrationResultDto result = bulkUserRegistrationService.registerUsers(requests);
+            return ResponseEntity.ok(result);
+        }
+    }
+
+    /**
+     * Endpoint para iniciar sesión con correo y contraseña.
+     *
+     * @param loginRequestDto DTO que contiene el correo y la contraseña del usuario.
+     * @param request solicitud HTTP, utilizada para obtener la dirección IP del cliente.
+     * @return ResponseEntity que contiene el token emitido y un código de estado HTTP.
+     *         Si las credenciales no son válidas, se devuelve un código de estado UNAUTHORIZED;
+     *         si se superó el límite de intentos, un código de estado TOO_MANY_REQUESTS.
+     */
+    @PostMapping("/login")
+    public CompletableFuture<ResponseEntity<LoginResponseDto>> login(@RequestBody @Valid LoginRequestDto loginRequestDto,
+                                                                     HttpServletRequest request) {
+        String clientIp = request.getRemoteAddr();
+        return async(() -> ResponseEntity.ok(userService.login(loginRequestDto, clientIp)));
+    }
+
+    /**
+     * Endpoint para cerrar la sesión. Revoca el token con el que se autenticó la solicitud.
+     *
+     * @param claims datos del token verificado por el filtro de autenticación.
+     * @return ResponseEntity que indica que la operación se ha completado sin contenido.
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestAttribute(JwtAuthenticationFilter.CLAIMS_ATTRIBUTE) TokenClaimsDto claims) {
+        userService.logout(claims);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Endpoint para revocar todos los tokens emitidos para un usuario.
+     *
+     * @param id el ID del usuario.
+     * @return ResponseEntity que indica que la operación se ha completado sin contenido.
+     *         Si no se encuentra el usuario, se lanza una excepción con un código de estado NOT_FOUND.
+     */
+    @PostMapping("/{id}/revoke-tokens")
+    public ResponseEntity<Void> revokeTokens(@PathVariable UUID id) {
+        userService.revokeTokens(id);
+        return ResponseEntity.noContent().build();
     }
 
     /**
      * Endpoint para obtener un usuario por su ID.
+     * La respuesta se escribe directamente desde la caché de respuestas serializadas e incluye un ETag;
+     * si el cliente envía ese ETag en If-None-Match, se responde NOT_MODIFIED sin cuerpo.
      *
      * @param id el ID del usuario a buscar.
-     * @return ResponseEntity que contiene el usuario encontrado y un código de estado HTTP.
+     * @param ifNoneMatch ETags que el cliente ya tiene almacenados, si los hay.
+     * @return ResponseEntity que contiene el JSON del usuario encontrado y un código de estado HTTP.
      *         Si no se encuentra el usuario, se lanza una excepción con un código de estado NOT_FOUND.
      */
-    @GetMapping("/{id}")
-    public ResponseEntity<User> getUserById(@PathVariable UUID id) {
-        User user = userService.findById(id);
-        return ResponseEntity.ok(user);
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public CompletableFuture<ResponseEntity<byte[]>> getUserById(@PathVariable UUID id,
+                                                                 @RequestHeader(value = HttpHeaders.IF_NONE_MATCH,
+                                                                         required = false) String ifNoneMatch) {
+        return async(() -> {
+            SerializedUserDto user = userService.findSerializedById(id);
+            if (matchesEtag(ifNoneMatch, user.getEtag())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(user.getEtag()).build();
+            }
+            return ResponseEntity.ok()
+                    .eTag(user.getEtag())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(user.getJson());
+        });
+    }
+
+    /**
+     * Indica si la cabecera If-None-Match contiene el ETag actual, aceptando listas separadas por comas,
+     * ETags débiles y el comodín {@code *}.
+     *
+     * @param ifNoneMatch valor de la cabecera If-None-Match, puede ser nulo.
+     * @param etag ETag actual del recurso.
+     * @return {@code true} si el cliente ya tiene la versión actual.
+     */
+    private static boolean matchesEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Endpoint para consultar las métricas de la caché de respuestas de usuarios.
+     *
+     * @return ResponseEntity que contiene los aciertos, fallos y desalojos de la caché.
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<CacheStatsDto> getCacheStats() {
+        return ResponseEntity.ok(userService.getResponseCacheStats());
     }
 
     /**
-     * Endpoint para obtener todos los usuarios registrados en el sistema.
+     * Endpoint para obtener los usuarios registrados en el sistema, paginados por cursor.
      *
-     * @return ResponseEntity que contiene una lista de todos los usuarios y un código de estado HTTP.
+     * @param cursor cursor devuelto en la página anterior; si se omite se devuelve la primera página.
+     * @param size cantidad de usuarios por página; se limita al máximo configurado.
+     * @return ResponseEntity que contiene la página de usuarios y el cursor de la siguiente página.
+     *         Si el cursor no es válido, se devuelve un código de estado BAD_REQUEST.
      */
     @GetMapping
-    public ResponseEntity<List<User>> getAllUsers() {
-        List<User> users = userService.findAll();
-        return ResponseEntity.ok(users);
+    public ResponseEntity<CursorPageDto<UserResponseDto>> getAllUsers(@RequestParam(required = false) String cursor,
+                                                                      @RequestParam(required = false) Integer size) {
+        CursorPageDto<UserResponseDto> page = userService.findPage(cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Endpoint para buscar usuarios por prefijo de correo ({@code email}) o nombre ({@code name}), rango de fechas
+     * de creación ({@code createdFrom} inclusive, {@code createdTo} exclusive, en formato ISO), estado
+     * ({@code active}) y teléfono ({@code number}, {@code cityCode}, {@code contryCode}), paginados por cursor.
+     *
+     * @param criteria filtros de la búsqueda, recibidos como parámetros de la consulta.
+     * @param cursor cursor devuelto en la página anterior; si se omite se devuelve la primera página.
+     * @param size cantidad de usuarios por página; se limita al máximo configurado.
+     * @return ResponseEntity que contiene la página de usuarios encontrados y el cursor de la siguiente página.
+     *         Si el cursor no es válido, se devuelve un código de estado BAD_REQUEST.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<CursorPageDto<UserResponseDto>> searchUsers(UserSearchCriteriaDto criteria,
+                                                                      @RequestParam(required = false) String cursor,
+                                                                      @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(userService.searchUsers(criteria, cursor, size));
+    }
+
+    /**
+     * Endpoint para autocompletar correos: devuelve los correos registrados que empiezan por el prefijo indicado.
+     *
+     * @param prefix prefijo del correo.
+     * @param limit cantidad máxima de sugerencias; se limita al máximo configurado.
+     * @return ResponseEntity que contiene los correos en orden alfabético.
+     */
+    @GetMapping("/search/emails")
+    public ResponseEntity<List<String>> suggestEmails(@RequestParam String prefix,
+                                                      @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(userService.suggestEmails(prefix, limit));
+    }
+
+    /**
+     * Endpoint para sincronizar usuarios de forma incremental: devuelve los altas, modificaciones y eliminaciones
+     * publicadas después de la posición indicada, en orden. El consumidor guarda {@code nextSince} y lo envía en
+     * la siguiente consulta, por lo que solo recibe los cambios que aún no procesó.
+     *
+     * @param since posición del último cambio procesado; si se omite se devuelven los cambios desde el inicio.
+     * @param limit cantidad máxima de cambios; se limita al máximo configurado.
+     * @return ResponseEntity que contiene los cambios y la posición desde la que continuar.
+     *         Si la posición no es válida, se devuelve un código de estado BAD_REQUEST.
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<UserChangeFeedDto> getChanges(@RequestParam(defaultValue = "0") long since,
+                                                        @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(userChangeService.findChanges(since, limit));
+    }
+
+    /**
+     * Endpoint para exportar todos los usuarios en formato NDJSON (un objeto JSON por línea).
+     * Los usuarios se escriben en la respuesta a medida que se leen de la base de datos,
+     * por lo que la memoria utilizada no depende del tamaño de la tabla.
+     *
+     * @return ResponseEntity con el cuerpo que se escribe de forma incremental.
+     */
+    @GetMapping(value = "/stream", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> streamAllUsers() {
+        StreamingResponseBody body = outputStream -> userService.streamAll(user -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(user));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(APPLICATION_NDJSON).body(body);
     }
 
     /**
      * Endpoint para actualizar la información de un usuario existente.
      *
+     * Si se envía la cabecera {@code Idempotency-Key}, un reintento con la misma clave y el mismo cuerpo
+     * devuelve la respuesta de la primera actualización sin volver a ejecutarla. Si se envía {@code If-Match}
+     * con el ETag de {@code GET /{id}}, la actualización solo se aplica si el usuario no cambió desde entonces.
+     *
      * @param id el ID del usuario a actualizar.
      * @param userRequestDto DTO que contiene la nueva información del usuario.
+     * @param idempotencyKey clave de idempotencia opcional elegida por el cliente.
+     * @param ifMatch ETag opcional de la versión leída por el cliente.
      * @return ResponseEntity que contiene el usuario actualizado y un código de estado HTTP.
      *         Si no se encuentra el usuario, se lanza una excepción con un código de estado NOT_FOUND.
+     *         Si el usuario cambió, se responde con un código de estado CONFLICT.
      */
     @PutMapping("/{id}")
-    public ResponseEntity<User> updateUser(@PathVariable UUID id, @RequestBody UserRequestDto userRequestDto) {
-        User updatedUser = userService.updateUser(id, userRequestDto);
-        return ResponseEntity.ok(updatedUser);
+    public CompletableFuture<ResponseEntity<UserResponseDto>> updateUser(@PathVariable UUID id,
+                                                                         @RequestBody UserRequestDto userRequestDto,
+                                                                         @RequestHeader(value = IdempotencyStore.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+                                                                         @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return idempotencyStore.execute("PUT /" + id, idempotencyKey, userRequestDto,
+                () -> async(() -> ResponseEntity.ok(UserResponseDto.from(userService.updateUser(id, userRequestDto, ifMatch)))));
+    }
+
+    /**
+     * Endpoint para actualizar parcialmente un usuario. Recibe un documento JSON Merge Patch (RFC 7386)
+     * con solo los campos a modificar; si incluye {@code phones}, la lista reemplaza a los teléfonos actuales.
+     * Con {@code If-Match} el cambio solo se aplica sobre la versión que el cliente leyó.
+     *
+     * @param id el ID del usuario a actualizar.
+     * @param patch documento con los campos a modificar.
+     * @param ifMatch ETag opcional de la versión leída por el cliente.
+     * @return ResponseEntity que contiene el usuario actualizado.
+     *         Si otra solicitud modificó al usuario al mismo tiempo o después de la lectura indicada en
+     *         {@code If-Match}, se responde con un código de estado CONFLICT.
+     */
+    @PatchMapping(value = "/{id}", consumes = {MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public CompletableFuture<ResponseEntity<UserResponseDto>> patchUser(@PathVariable UUID id,
+                                                                        @RequestBody JsonNode patch,
+                                                                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return async(() -> ResponseEntity.ok(UserResponseDto.from(userService.patchUser(id, patch, ifMatch))));
+    }
+
+    /**
+     * Resuelve una solicitud en el ejecutor de solicitudes. Spring MVC libera el hilo del servidor web hasta que
+     * el resultado está listo y las excepciones de la tarea se manejan igual que si se lanzaran en el controlador.
+     * Si la solicitud se está perfilando, el perfil acompaña a la tarea en el hilo del ejecutor.
+     *
+     * @param handler la lógica de la solicitud.
+     * @param <T> tipo de la respuesta.
+     * @return el resultado pendiente de la solicitud.
+     * @throws ServiceBusyException si el ejecutor está saturado.
+     */
+    private <T> CompletableFuture<T> async(Supplier<T> handler) {
+        RequestProfile profile = RequestProfile.current();
+        Supplier<T> task = profile == null ? handler : () -> profile.track(handler);
+        try {
+            return CompletableFuture.supplyAsync(task, requestExecutor);
+        } catch (RejectedExecutionException e) {
+            throw new ServiceBusyException("El servicio está ocupado, intente nuevamente más tarde");
+        }
     }
 
     /**
@@ -95,4 +392,16 @@ public class UserController {
         userService.deleteUser(id);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Endpoint para eliminar varios usuarios en una sola solicitud.
+     *
+     * @param ids los IDs de los usuarios a eliminar.
+     * @return ResponseEntity que contiene la cantidad de IDs recibidos y de usuarios eliminados.
+     *         Los IDs que no corresponden a un usuario existente se ignoran.
+     */
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<BulkDeleteResultDto> deleteUsers(@RequestBody List<UUID> ids) {
+        return ResponseEntity.ok(userService.deleteUsers(ids));
+    }
 }
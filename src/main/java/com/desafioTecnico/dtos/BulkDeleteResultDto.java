@@ -0,0 +1,21 @@
+package com.desafioTecnico.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO (Data Transfer Object) con el resultado de una eliminación masiva de usuarios.
+ * {@code deleted} puede ser menor que {@code requested} si algunos IDs no existen, ya estaban eliminados
+ * o estaban repetidos en la solicitud.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkDeleteResultDto {
+
+    private int requested;
+
+    private int deleted;
+
+}
@@ -0,0 +1,31 @@
+package com.desafioTecnico.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * DTO (Data Transfer Object) con el resultado del registro de un elemento de una importación masiva.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkRegistrationItemDto {
+
+    public static final String CREATED = "CREATED";
+
+    public static final String REJECTED = "REJECTED";
+
+    private int index;
+
+    private String email;
+
+    private String status;
+
+    private UUID id;
+
+    private String error;
+
+}
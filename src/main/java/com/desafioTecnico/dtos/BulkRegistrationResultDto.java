@@ -0,0 +1,28 @@
+package com.desafioTecnico.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO (Data Transfer Object) con el informe de una importación masiva de usuarios.
+ * Incluye un resultado por cada registro recibido, en el mismo orden de la solicitud.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkRegistrationResultDto {
+
+    private int total;
+
+    private int created;
+
+    private int rejected;
+
+    private boolean truncated;
+
+    private List<BulkRegistrationItemDto> results;
+
+}
@@ -0,0 +1,25 @@
+package com.desafioTecnico.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO (Data Transfer Object) que representa una página de resultados obtenida con paginación por cursor.
+ * El cursor {@code nextCursor} debe enviarse en la siguiente solicitud para continuar la lectura;
+ * si es nulo, no quedan más elementos.
+ *
+ * @param <T> tipo de los elementos de la página.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPageDto<T> {
+
+    private List<T> items;
+
+    private String nextCursor;
+
+}
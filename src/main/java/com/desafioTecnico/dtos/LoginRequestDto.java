@@ -0,0 +1,23 @@
+package com.desafioTecnico.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotBlank;
+
+/**
+ * DTO (Data Transfer Object) que representa la solicitud de inicio de sesión de un usuario.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class LoginRequestDto {
+
+    @NotBlank(message = "El correo es obligatorio")
+    private String email;
+
+    @NotBlank(message = "La contraseña es obligatoria")
+    private String password;
+
+}
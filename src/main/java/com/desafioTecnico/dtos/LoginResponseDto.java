@@ -0,0 +1,24 @@
+package com.desafioTecnico.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO (Data Transfer Object) que representa la respuesta de un inicio de sesión exitoso.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class LoginResponseDto {
+
+    private UUID id;
+
+    private String token;
+
+    private LocalDateTime lastLogin;
+
+}
@@ -0,0 +1,22 @@
+package com.desafioTecnico.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO (Data Transfer Object) que representa un número de teléfono en las respuestas de la API.
+ * Expone los mismos campos que la entidad {@link com.desafioTecnico.models.Phone}, sin su ID interno.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PhoneResponseDto {
+
+    private String number;
+
+    private String cityCode;
+
+    private String contryCode;
+
+}
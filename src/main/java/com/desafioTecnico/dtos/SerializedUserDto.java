@@ -0,0 +1,18 @@
+package com.desafioTecnico.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Respuesta de un usuario ya serializada a JSON, junto con su ETag.
+ * Se almacena en la caché de respuestas y se escribe tal cual en el cuerpo de la respuesta HTTP.
+ */
+@Data
+@AllArgsConstructor
+public class SerializedUserDto {
+
+    private byte[] json;
+
+    private String etag;
+
+}
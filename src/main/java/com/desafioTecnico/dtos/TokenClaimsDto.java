@@ -0,0 +1,30 @@
+package com.desafioTecnico.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * DTO (Data Transfer Object) con los datos de un token JWT ya verificado.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TokenClaimsDto {
+
+    private String subject;
+
+    private String tokenId;
+
+    private UUID userId;
+
+    private int tokenVersion;
+
+    private Instant issuedAt;
+
+    private Instant expiresAt;
+
+}
@@ -0,0 +1,38 @@
+package com.desafioTecnico.dtos;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO (Data Transfer Object) que representa un cambio en el ciclo de vida de un usuario.
+ * {@code seq} es la posición del cambio en el flujo de cambios; {@code user} contiene el estado del usuario
+ * después del cambio, con el mismo formato que las respuestas de la API, y es nulo en las eliminaciones.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserChangeDto {
+
+    public static final String CREATED = "CREATED";
+
+    public static final String UPDATED = "UPDATED";
+
+    public static final String DELETED = "DELETED";
+
+    private long seq;
+
+    private UUID userId;
+
+    private String type;
+
+    private LocalDateTime occurredAt;
+
+    @JsonRawValue
+    private String user;
+
+}
@@ -0,0 +1,23 @@
+package com.desafioTecnico.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO (Data Transfer Object) con una página del flujo de cambios de usuarios.
+ * {@code nextSince} debe enviarse como parámetro {@code since} en la siguiente consulta; si no hay cambios
+ * nuevos, es igual al valor recibido.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserChangeFeedDto {
+
+    private List<UserChangeDto> items;
+
+    private long nextSince;
+
+}
@@ -0,0 +1,94 @@
+package com.desafioTecnico.dtos;
+
+import com.desafioTecnico.models.User;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * DTO (Data Transfer Object) de solo lectura que representa a un usuario en las respuestas de la API.
+ * En los listados se construye directamente desde las consultas de proyección del repositorio, sin cargar
+ * la entidad {@link User} ni su colección perezosa de teléfonos. Nunca expone la contraseña; el token solo
+ * se incluye en la respuesta del registro.
+ */
+@Data
+@NoArgsConstructor
+public class UserResponseDto {
+
+    private UUID id;
+
+    private String name;
+
+    private String email;
+
+    private List<PhoneResponseDto> phones = new ArrayList<>();
+
+    private LocalDateTime created;
+
+    private LocalDateTime modified;
+
+    private LocalDateTime lastLogin;
+
+    private Boolean isActive;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String token;
+
+    /**
+     * Versión de la entidad al construir la respuesta. No se serializa; forma parte del ETag, con el que
+     * el cliente condiciona las modificaciones mediante {@code If-Match}.
+     */
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    private Long version;
+
+    /**
+     * Constructor utilizado por las expresiones {@code select new} de JPQL.
+     * Los teléfonos se asignan después, con una única consulta por lote de usuarios.
+     *
+     * @param id ID del usuario.
+     * @param name nombre del usuario.
+     * @param email correo del usuario.
+     * @param created fecha de creación.
+     * @param modified fecha de la última modificación.
+     * @param lastLogin fecha del último inicio de sesión.
+     * @param isActive indica si el usuario está activo.
+     */
+    public UserResponseDto(UUID id, String name, String email, LocalDateTime created,
+                           LocalDateTime modified, LocalDateTime lastLogin, Boolean isActive) {
+        this.id = id;
+        this.name = name;
+        this.email = email;
+        this.created = created;
+        this.modified = modified;
+        this.lastLogin = lastLogin;
+        this.isActive = isActive;
+    }
+
+    /**
+     * Construye la respuesta a partir de la entidad, sin la contraseña ni el token.
+     *
+     * @param user la entidad del usuario, con sus teléfonos inicializados.
+     * @return la respuesta del usuario.
+     */
+    public static UserResponseDto from(User user) {
+        UserResponseDto response = new UserResponseDto(user.getId(), user.getName(), user.getEmail(),
+                user.getCreated(), user.getModified(), user.getLastLogin(), user.getIsActive());
+        response.setVersion(user.getVersion());
+        if (user.getPhones() != null) {
+            response.setPhones(user.getPhones().stream()
+                    .map(phone -> new PhoneResponseDto(phone.getNumber(), phone.getCityCode(), phone.getContryCode()))
+                    .collect(Collectors.toList()));
+        }
+        return response;
+    }
+
+}
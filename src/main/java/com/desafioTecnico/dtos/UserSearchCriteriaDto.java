@@ -0,0 +1,50 @@
+package com.desafioTecnico.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO (Data Transfer Object) con los filtros de la búsqueda de usuarios. Todos los filtros son opcionales
+ * y se combinan entre sí; los de teléfono seleccionan a los usuarios con al menos un teléfono que cumpla
+ * todos los indicados.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserSearchCriteriaDto {
+
+    /**
+     * Prefijo del correo, distingue mayúsculas y minúsculas.
+     */
+    private String email;
+
+    /**
+     * Prefijo del nombre, distingue mayúsculas y minúsculas.
+     */
+    private String name;
+
+    /**
+     * Fecha de creación mínima, inclusive.
+     */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdFrom;
+
+    /**
+     * Fecha de creación máxima, exclusive.
+     */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdTo;
+
+    private Boolean active;
+
+    private String number;
+
+    private String cityCode;
+
+    private String contryCode;
+
+}
@@ -1,8 +1,12 @@
 package com.desafioTecnico.exceptions;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -96,4 +100,167 @@ public class GlobalExceptionHandler {
                 .status(HttpStatus.NOT_FOUND)
                 .body(ex.getMessage());
     }
+
+    /**
+     * Maneja las excepciones relacionadas con cursores de paginación inválidos.
+     * Esto ocurre cuando el cursor enviado por el cliente no fue generado por la API o fue alterado.
+     *
+     * @param ex la excepción de cursor inválido lanzada
+     * @return un ResponseEntity que contiene el mensaje de error y un estado HTTP 400 (BAD REQUEST)
+     */
+    @Operation(summary = "Manejo de errores de cursor de paginación inválido")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "400", description = "El cursor de paginación no es válido")
+    })
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<String> handleInvalidCursorException(InvalidCursorException ex) {
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(ex.getMessage());
+    }
+
+    /**
+     * Maneja las excepciones relacionadas con documentos de cambios parciales inválidos.
+     *
+     * @param ex la excepción de documento de cambios inválido lanzada
+     * @return un ResponseEntity que contiene el mensaje de error y un estado HTTP 400 (BAD REQUEST)
+     */
+    @Operation(summary = "Manejo de errores de documento de cambios parciales inválido")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "400", description = "El documento de cambios no es válido")
+    })
+    @ExceptionHandler(InvalidPatchException.class)
+    public ResponseEntity<String> handleInvalidPatchException(InvalidPatchException ex) {
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(ex.getMessage());
+    }
+
+    /**
+     * Maneja los conflictos de bloqueo optimista, que ocurren cuando otra solicitud modificó el usuario
+     * entre la lectura y la escritura.
+     *
+     * @param ex la excepción de bloqueo optimista lanzada
+     * @return un ResponseEntity que contiene el mensaje de error y un estado HTTP 409 (CONFLICT)
+     */
+    @Operation(summary = "Manejo de conflictos de actualización concurrente")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "409", description = "El usuario fue modificado por otra solicitud")
+    })
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<String> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body("El usuario fue modificado por otra solicitud, vuelva a intentarlo");
+    }
+
+    /**
+     * Maneja las excepciones que indican que el servicio no tiene capacidad disponible,
+     * por ejemplo cuando el pool de cifrado de contraseñas está saturado.
+     *
+     * @param ex la excepción de servicio ocupado lanzada
+     * @return un ResponseEntity que contiene el mensaje de error, la cabecera Retry-After
+     *         y un estado HTTP 503 (SERVICE UNAVAILABLE)
+     */
+    @Operation(summary = "Manejo de errores de servicio ocupado")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "503", description = "El servicio está saturado, reintentar más tarde")
+    })
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<String> handleServiceBusyException(ServiceBusyException ex) {
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ex.getMessage());
+    }
+
+    /**
+     * Maneja las excepciones de credenciales de inicio de sesión inválidas.
+     *
+     * @param ex la excepción de credenciales inválidas lanzada
+     * @return un ResponseEntity que contiene el mensaje de error y un estado HTTP 401 (UNAUTHORIZED)
+     */
+    @Operation(summary = "Manejo de errores de credenciales inválidas")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "401", description = "El correo o la contraseña son incorrectos")
+    })
+    @ExceptionHandler(InvalidCredentialsException.class)
+    public ResponseEntity<String> handleInvalidCredentialsException(InvalidCredentialsException ex) {
+        return ResponseEntity
+                .status(HttpStatus.UNAUTHORIZED)
+                .body(ex.getMessage());
+    }
+
+    /**
+     * Maneja las excepciones de tokens de acceso inválidos o expirados.
+     *
+     * @param ex la excepción de token inválido lanzada
+     * @return un ResponseEntity que contiene el mensaje de error, la cabecera WWW-Authenticate
+     *         y un estado HTTP 401 (UNAUTHORIZED)
+     */
+    @Operation(summary = "Manejo de errores de token de acceso inválido")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "401", description = "El token de acceso no es válido o expiró")
+    })
+    @ExceptionHandler(InvalidTokenException.class)
+    public ResponseEntity<String> handleInvalidTokenException(InvalidTokenException ex) {
+        return ResponseEntity
+                .status(HttpStatus.UNAUTHORIZED)
+                .header(HttpHeaders.WWW_AUTHENTICATE, "Bearer")
+                .body(ex.getMessage());
+    }
+
+    /**
+     * Maneja las excepciones que indican que el cliente superó el límite de solicitudes.
+     *
+     * @param ex la excepción de límite de solicitudes lanzada
+     * @return un ResponseEntity que contiene el mensaje de error, la cabecera Retry-After
+     *         y un estado HTTP 429 (TOO MANY REQUESTS)
+     */
+    @Operation(summary = "Manejo de errores de límite de solicitudes")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "429", description = "Se superó el límite de intentos")
+    })
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<String> handleTooManyRequestsException(TooManyRequestsException ex) {
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ex.getMessage());
+    }
+
+    /**
+     * Maneja las excepciones de claves de idempotencia inválidas o reutilizadas con otra solicitud.
+     *
+     * @param ex la excepción de clave de idempotencia lanzada
+     * @return un ResponseEntity que contiene el mensaje de error y un estado HTTP 422 (UNPROCESSABLE ENTITY)
+     */
+    @Operation(summary = "Manejo de errores de clave de idempotencia")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "422", description = "La clave de idempotencia no es válida o ya se usó con otra solicitud")
+    })
+    @ExceptionHandler(IdempotencyKeyException.class)
+    public ResponseEntity<String> handleIdempotencyKeyException(IdempotencyKeyException ex) {
+        return ResponseEntity
+                .status(HttpStatus.UNPROCESSABLE_ENTITY)
+                .body(ex.getMessage());
+    }
+
+    /**
+     * Maneja los errores de lectura de cuerpos JSON procesados de forma incremental,
+     * por ejemplo en el registro masivo de usuarios.
+     *
+     * @param ex la excepción de lectura de JSON lanzada
+     * @return un ResponseEntity que contiene el mensaje de error y un estado HTTP 400 (BAD REQUEST)
+     */
+    @Operation(summary = "Manejo de errores de lectura de JSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "400", description = "El cuerpo de la solicitud no es un JSON válido")
+    })
+    @ExceptionHandler({JsonProcessingException.class, RuntimeJsonMappingException.class})
+    public ResponseEntity<String> handleJsonReadException(Exception ex) {
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body("El cuerpo de la solicitud no es un JSON válido");
+    }
 }
@@ -0,0 +1,11 @@
+package com.desafioTecnico.exceptions;
+
+/**
+ * Excepción que indica que la clave de idempotencia de una solicitud no es válida o ya se usó con una
+ * solicitud distinta.
+ */
+public class IdempotencyKeyException extends RuntimeException {
+    public IdempotencyKeyException(String message) {
+        super(message);
+    }
+}
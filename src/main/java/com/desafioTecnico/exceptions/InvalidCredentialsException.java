@@ -0,0 +1,10 @@
+package com.desafioTecnico.exceptions;
+
+/**
+ * Excepción que indica que las credenciales de inicio de sesión no son válidas.
+ */
+public class InvalidCredentialsException extends RuntimeException {
+    public InvalidCredentialsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,10 @@
+package com.desafioTecnico.exceptions;
+
+/**
+ * Excepción que indica que el cursor de paginación recibido no es válido.
+ */
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,10 @@
+package com.desafioTecnico.exceptions;
+
+/**
+ * Excepción que indica que un documento de cambios parciales (JSON Merge Patch) no es válido.
+ */
+public class InvalidPatchException extends RuntimeException {
+    public InvalidPatchException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,10 @@
+package com.desafioTecnico.exceptions;
+
+/**
+ * Excepción que indica que el token de acceso no es válido, expiró o no fue enviado.
+ */
+public class InvalidTokenException extends RuntimeException {
+    public InvalidTokenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.desafioTecnico.exceptions;
+
+/**
+ * Excepción que indica que el servicio no tiene capacidad para atender la solicitud en este momento.
+ * El cliente puede reintentar la operación más tarde.
+ */
+public class ServiceBusyException extends RuntimeException {
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+}
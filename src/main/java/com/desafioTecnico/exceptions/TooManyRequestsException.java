@@ -0,0 +1,18 @@
+package com.desafioTecnico.exceptions;
+
+import lombok.Getter;
+
+/**
+ * Excepción que indica que el cliente superó el límite de solicitudes permitido.
+ * Incluye la cantidad de segundos que el cliente debe esperar antes de reintentar.
+ */
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
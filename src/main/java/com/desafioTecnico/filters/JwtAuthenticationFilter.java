@@ -0,0 +1,81 @@
+package com.desafioTecnico.filters;
+
+import com.desafioTecnico.dtos.TokenClaimsDto;
+import com.desafioTecnico.exceptions.InvalidTokenException;
+import com.desafioTecnico.services.TokenService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/**
+ * Filtro que exige un token JWT válido en la cabecera {@code Authorization: Bearer} de las rutas de usuarios.
+ * La verificación se hace solo con la firma y los datos del token, sin consultar la base de datos; los datos
+ * del token verificado quedan disponibles en el atributo {@link #CLAIMS_ATTRIBUTE} de la solicitud.
+ * El registro y el inicio de sesión no requieren token.
+ */
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    /**
+     * Nombre del atributo de la solicitud que contiene el {@link TokenClaimsDto} del token verificado.
+     */
+    public static final String CLAIMS_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".CLAIMS";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private static final Set<String> PUBLIC_PATHS = Set.of("/api/v1/users/register", "/api/v1/users/login");
+
+    private final TokenService tokenService;
+
+    /**
+     * Constructor de JwtAuthenticationFilter.
+     *
+     * @param tokenService Servicio utilizado para verificar los tokens.
+     */
+    public JwtAuthenticationFilter(TokenService tokenService) {
+        this.tokenService = tokenService;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return HttpMethod.OPTIONS.matches(request.getMethod()) || PUBLIC_PATHS.contains(path);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            unauthorized(response, "Se requiere un token de acceso");
+            return;
+        }
+
+        TokenClaimsDto claims;
+        try {
+            claims = tokenService.verifyToken(header.substring(BEARER_PREFIX.length()).trim());
+        } catch (InvalidTokenException e) {
+            unauthorized(response, e.getMessage());
+            return;
+        }
+        request.setAttribute(CLAIMS_ATTRIBUTE, claims);
+        filterChain.doFilter(request, response);
+    }
+
+    private void unauthorized(HttpServletResponse response, String message) throws IOException {
+        response.setStatus(HttpStatus.UNAUTHORIZED.value());
+        response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(message);
+    }
+}
@@ -0,0 +1,106 @@
+package com.desafioTecnico.filters;
+
+import com.desafioTecnico.components.RequestProfile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Filtro del modo de diagnóstico. Perfila las solicitudes que envían la cabecera {@link #PROFILE_HEADER}
+ * y una fracción aleatoria del resto: cuenta las sentencias SQL, el tiempo en JDBC, el tiempo de serialización
+ * JSON y los bytes reservados, y los devuelve en la cabecera {@code Server-Timing}. Las solicitudes lentas o con
+ * demasiadas sentencias se registran en el log.
+ * <p>
+ * Para poder agregar la cabecera después de ejecutar la solicitud, el cuerpo de las solicitudes perfiladas se
+ * retiene en memoria hasta el final; las demás solicitudes no se modifican.
+ */
+public class RequestProfilingFilter extends OncePerRequestFilter {
+
+    /**
+     * Cabecera con la que un cliente solicita el perfil de su solicitud.
+     */
+    public static final String PROFILE_HEADER = "X-Request-Profile";
+
+    /**
+     * Nombre del atributo de la solicitud que contiene su {@link RequestProfile}.
+     */
+    public static final String PROFILE_ATTRIBUTE = RequestProfilingFilter.class.getName() + ".PROFILE";
+
+    private static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private static final Logger log = LoggerFactory.getLogger(RequestProfilingFilter.class);
+
+    private final double sampleRate;
+
+    private final long slowRequestMillis;
+
+    private final long maxStatements;
+
+    /**
+     * Constructor de RequestProfilingFilter.
+     *
+     * @param sampleRate fracción de solicitudes sin cabecera que se perfilan, entre 0 y 1.
+     * @param slowRequestMillis duración a partir de la cual una solicitud perfilada se registra en el log.
+     * @param maxStatements cantidad de sentencias SQL a partir de la cual una solicitud perfilada se registra en el log.
+     */
+    public RequestProfilingFilter(double sampleRate, long slowRequestMillis, long maxStatements) {
+        this.sampleRate = sampleRate;
+        this.slowRequestMillis = slowRequestMillis;
+        this.maxStatements = maxStatements;
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestProfile profile;
+        ContentCachingResponseWrapper wrapper;
+        if (isAsyncDispatch(request)) {
+            profile = (RequestProfile) request.getAttribute(PROFILE_ATTRIBUTE);
+            wrapper = WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class);
+        } else if (shouldProfile(request)) {
+            profile = new RequestProfile();
+            request.setAttribute(PROFILE_ATTRIBUTE, profile);
+            wrapper = new ContentCachingResponseWrapper(response);
+        } else {
+            profile = null;
+            wrapper = null;
+        }
+        if (profile == null || wrapper == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        try (RequestProfile.Scope ignored = profile.open()) {
+            filterChain.doFilter(request, wrapper);
+        }
+
+        if (isAsyncStarted(request)) {
+            return;
+        }
+        wrapper.setHeader(SERVER_TIMING_HEADER, profile.toServerTiming());
+        if (profile.getElapsedMillis() >= slowRequestMillis || profile.getStatements() >= maxStatements) {
+            log.warn("Solicitud lenta {} {} -> {}: {}", request.getMethod(), request.getRequestURI(),
+                    wrapper.getStatus(), profile);
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    private boolean shouldProfile(HttpServletRequest request) {
+        return Boolean.parseBoolean(request.getHeader(PROFILE_HEADER))
+                || sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+}
@@ -2,6 +2,7 @@ package com.desafioTecnico.models;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import javax.persistence.*;
 
@@ -16,10 +17,18 @@ import javax.persistence.*;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity(name = "phones")
+@DynamicUpdate
 public class Phone {
 
+    /**
+     * Cantidad de IDs que se reservan en cada lectura de la secuencia {@code phones_seq}.
+     * Debe coincidir con el incremento declarado en {@code database.sql}.
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "phones_seq")
+    @SequenceGenerator(name = "phones_seq", sequenceName = "phones_seq", allocationSize = ID_ALLOCATION_SIZE)
     @JsonIgnore
     private Long id;
 
@@ -0,0 +1,46 @@
+package com.desafioTecnico.models;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+import java.io.Serializable;
+import java.security.SecureRandom;
+import java.util.UUID;
+
+/**
+ * Generador de identificadores UUID ordenados por tiempo (formato UUID versión 7).
+ * Los primeros 48 bits contienen los milisegundos desde la época Unix y el resto son aleatorios,
+ * por lo que los IDs de registros nuevos quedan al final del índice de la clave primaria en lugar
+ * de repartirse por todas sus páginas, como ocurre con los UUID aleatorios.
+ */
+public class TimeOrderedUuidGenerator implements IdentifierGenerator {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    /**
+     * Genera un nuevo UUID ordenado por tiempo.
+     *
+     * @return el UUID generado.
+     */
+    public static UUID next() {
+        byte[] random = new byte[10];
+        RANDOM.nextBytes(random);
+
+        long timestamp = System.currentTimeMillis();
+        long randA = ((random[0] & 0x0FL) << 8) | (random[1] & 0xFFL);
+        long mostSigBits = (timestamp << 16) | 0x7000L | randA;
+
+        long randB = 0;
+        for (int i = 2; i < 10; i++) {
+            randB = (randB << 8) | (random[i] & 0xFFL);
+        }
+        long leastSigBits = (randB & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    @Override
+    public Serializable generate(SharedSessionContractImplementor session, Object object) {
+        return next();
+    }
+}
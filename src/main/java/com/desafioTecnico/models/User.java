@@ -1,6 +1,10 @@
 package com.desafioTecnico.models;
 
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Where;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
@@ -9,7 +13,12 @@ import java.util.UUID;
 
 /**
  * Clase que representa un usuario en el sistema.
- * Se utiliza como entidad en la base de datos.
+ * Se utiliza como entidad en la base de datos. Las actualizaciones solo escriben las columnas modificadas
+ * y se protegen con bloqueo optimista mediante {@link #version}.
+ * <p>
+ * Las bajas son lógicas: se marca {@link #deletedAt} y todas las consultas de la entidad excluyen a los usuarios
+ * dados de baja, que se eliminan definitivamente con la purga periódica. La unicidad del correo solo se exige
+ * entre los usuarios no eliminados, mediante la columna generada {@code active_email} de {@code database.sql}.
  */
 @Data
 @Getter
@@ -17,30 +26,58 @@ import java.util.UUID;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity(name = "users")
+@DynamicUpdate
+@Where(clause = "deleted_at is null")
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(generator = "time-ordered-uuid")
+    @GenericGenerator(name = "time-ordered-uuid", strategy = "com.desafioTecnico.models.TimeOrderedUuidGenerator")
     @Column(columnDefinition = "UUID")
     private UUID id;
 
     @Column(nullable = false)
     private String name;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String email;
 
     @Column(nullable = false)
     private String password;
 
-    @OneToMany(cascade = CascadeType.ALL)
-    @JoinColumn(name = "user_id")
+    @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "user_id", nullable = false, updatable = false)
+    @BatchSize(size = 50)
     private List<Phone> phones;
 
     private LocalDateTime created;
     private LocalDateTime modified;
     private LocalDateTime lastLogin;
+
+    /**
+     * Token emitido en el registro. No se almacena: los tokens se verifican con su firma y se revocan
+     * con {@link #tokenVersion} o con la lista de revocación.
+     */
+    @Transient
     private String token;
+
     private Boolean isActive;
 
+    /**
+     * Versión de los tokens del usuario. Incrementarla invalida todos los tokens emitidos con una versión menor.
+     */
+    @Column(nullable = false)
+    private int tokenVersion;
+
+    /**
+     * Versión de la fila para el bloqueo optimista; Hibernate la incrementa en cada actualización.
+     */
+    @Version
+    private Long version;
+
+    /**
+     * Fecha de la baja lógica del usuario, o {@code null} si no fue eliminado.
+     */
+    private LocalDateTime deletedAt;
+
 }
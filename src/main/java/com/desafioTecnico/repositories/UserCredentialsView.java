@@ -0,0 +1,20 @@
+package com.desafioTecnico.repositories;
+
+import java.util.UUID;
+
+/**
+ * Proyección con los datos mínimos necesarios para verificar las credenciales de un usuario,
+ * sin cargar la entidad completa ni sus teléfonos.
+ */
+public interface UserCredentialsView {
+
+    UUID getId();
+
+    String getEmail();
+
+    String getPassword();
+
+    Boolean getIsActive();
+
+    int getTokenVersion();
+}
@@ -0,0 +1,18 @@
+package com.desafioTecnico.repositories;
+
+import java.util.UUID;
+
+/**
+ * Proyección de un teléfono junto con el ID del usuario al que pertenece.
+ * Permite cargar los teléfonos de un lote de usuarios con una sola consulta {@code IN}.
+ */
+public interface UserPhoneView {
+
+    UUID getUserId();
+
+    String getNumber();
+
+    String getCityCode();
+
+    String getContryCode();
+}
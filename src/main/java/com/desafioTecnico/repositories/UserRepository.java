@@ -1,16 +1,32 @@
 package com.desafioTecnico.repositories;
 
+import com.desafioTecnico.dtos.UserResponseDto;
 import com.desafioTecnico.models.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 /**
  * Interfaz de repositorio para la entidad {@link User}.
  * Proporciona métodos para acceder y manipular datos de usuarios en la base de datos.
  */
-public interface UserRepository extends JpaRepository<User, UUID> {
+public interface UserRepository extends JpaRepository<User, UUID>, UserSearchRepository {
 
     /**
      * Busca un usuario por su dirección de correo electrónico.
@@ -21,6 +37,49 @@ public interface UserRepository extends JpaRepository<User, UUID> {
      */
     Optional<User> findByEmail(String email);
 
+    /**
+     * Indica si existe un usuario con la dirección de correo indicada, sin cargar la entidad.
+     *
+     * @param email la dirección de correo electrónico a consultar.
+     * @return {@code true} si el correo ya está registrado.
+     */
+    boolean existsByEmail(String email);
+
+    /**
+     * Obtiene, de entre los correos indicados, los que ya están registrados.
+     *
+     * @param emails los correos a consultar.
+     * @return la lista de correos ya registrados.
+     */
+    @Query("select u.email from users u where u.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    /**
+     * Obtiene, en orden alfabético, los correos registrados que empiezan por el prefijo indicado.
+     * La consulta recorre un rango del índice de {@code email}, por lo que su costo depende de la
+     * cantidad de resultados y no del tamaño de la tabla.
+     *
+     * @param prefix el prefijo de los correos; los comodines de {@code LIKE} se escapan.
+     * @param pageable límite de correos a devolver.
+     * @return la lista de correos que empiezan por el prefijo.
+     */
+    @Query("select u.email from users u where u.email like ?#{escape([0])}% escape ?#{escapeCharacter()} " +
+            "order by u.email asc")
+    List<String> findEmailsStartingWith(String prefix, Pageable pageable);
+
+    /**
+     * Recorre los correos de todos los usuarios con un cursor JDBC.
+     * Debe consumirse dentro de una transacción y cerrarse al terminar.
+     *
+     * @return un {@link Stream} con los correos registrados.
+     */
+    @Query("select u.email from users u")
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    Stream<String> streamAllEmails();
+
     /**
      * Elimina un usuario por su ID.
      *
@@ -28,6 +87,29 @@ public interface UserRepository extends JpaRepository<User, UUID> {
      */
     void deleteById(UUID id);
 
+    /**
+     * Da de baja lógicamente a los usuarios indicados con una sola sentencia UPDATE, sin cargar las entidades
+     * ni sus teléfonos. Los usuarios ya dados de baja no se modifican.
+     *
+     * @param ids los IDs de los usuarios a dar de baja.
+     * @param deletedAt la fecha de la baja.
+     * @return la cantidad de usuarios dados de baja.
+     */
+    @Modifying
+    @Transactional
+    @Query("update users u set u.deletedAt = :deletedAt, u.version = u.version + 1 " +
+            "where u.id in :ids and u.deletedAt is null")
+    int softDeleteByIds(@Param("ids") Collection<UUID> ids, @Param("deletedAt") LocalDateTime deletedAt);
+
+    /**
+     * Obtiene, de entre los IDs indicados, los de los usuarios que existen y no fueron dados de baja.
+     *
+     * @param ids los IDs a consultar.
+     * @return la lista de IDs de usuarios existentes.
+     */
+    @Query("select u.id from users u where u.id in :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
     /**
      * Busca un usuario por su ID.
      *
@@ -36,4 +118,114 @@ public interface UserRepository extends JpaRepository<User, UUID> {
      *         o vacío si no se encuentra ningún usuario con el ID especificado.
      */
     Optional<User> findById(UUID id);
+
+    /**
+     * Busca un usuario por su ID cargando sus teléfonos en la misma consulta.
+     *
+     * @param id El ID del usuario a buscar.
+     * @return un {@link Optional} que contiene el usuario con sus teléfonos inicializados,
+     *         o vacío si no se encuentra ningún usuario con el ID especificado.
+     */
+    @EntityGraph(attributePaths = "phones")
+    Optional<User> findWithPhonesById(UUID id);
+
+    /**
+     * Obtiene la primera página de usuarios ordenados por fecha de creación e ID.
+     *
+     * @param pageable límite de elementos a devolver.
+     * @return la lista de usuarios de la primera página, sin teléfonos.
+     */
+    @Query("select new com.desafioTecnico.dtos.UserResponseDto(u.id, u.name, u.email, u.created, u.modified, " +
+            "u.lastLogin, u.isActive) from users u order by u.created asc, u.id asc")
+    List<UserResponseDto> findFirstPage(Pageable pageable);
+
+    /**
+     * Obtiene la página de usuarios posterior a la posición indicada por el cursor (paginación keyset).
+     * La consulta usa la fecha de creación y el ID del último usuario devuelto, por lo que su costo
+     * no depende de cuántas páginas se hayan leído antes.
+     *
+     * @param created fecha de creación del último usuario de la página anterior.
+     * @param id ID del último usuario de la página anterior.
+     * @param pageable límite de elementos a devolver.
+     * @return la lista de usuarios de la página solicitada, sin teléfonos.
+     */
+    @Query("select new com.desafioTecnico.dtos.UserResponseDto(u.id, u.name, u.email, u.created, u.modified, " +
+            "u.lastLogin, u.isActive) from users u " +
+            "where u.created > :created or (u.created = :created and u.id > :id) " +
+            "order by u.created asc, u.id asc")
+    List<UserResponseDto> findPageAfter(@Param("created") LocalDateTime created, @Param("id") UUID id,
+                                        Pageable pageable);
+
+    /**
+     * Recorre todos los usuarios con un cursor JDBC, ordenados por fecha de creación e ID.
+     * Debe consumirse dentro de una transacción y cerrarse al terminar.
+     *
+     * @return un {@link Stream} de usuarios, sin teléfonos.
+     */
+    @Query("select new com.desafioTecnico.dtos.UserResponseDto(u.id, u.name, u.email, u.created, u.modified, " +
+            "u.lastLogin, u.isActive) from users u order by u.created asc, u.id asc")
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    Stream<UserResponseDto> streamAllOrdered();
+
+    /**
+     * Obtiene los teléfonos de un lote de usuarios con una única consulta.
+     *
+     * @param userIds IDs de los usuarios cuyos teléfonos se quieren cargar.
+     * @return la lista de teléfonos junto con el ID del usuario al que pertenecen.
+     */
+    @Query("select u.id as userId, p.number as number, p.cityCode as cityCode, p.contryCode as contryCode " +
+            "from users u join u.phones p where u.id in :userIds order by p.id")
+    List<UserPhoneView> findPhonesByUserIds(@Param("userIds") Collection<UUID> userIds);
+
+    /**
+     * Obtiene los datos necesarios para verificar las credenciales de un usuario por su correo.
+     *
+     * @param email el correo del usuario.
+     * @return un {@link Optional} con las credenciales del usuario, o vacío si el correo no está registrado.
+     */
+    Optional<UserCredentialsView> findCredentialsByEmail(String email);
+
+    /**
+     * Registra un inicio de sesión actualizando solo la fecha de último acceso del usuario,
+     * sin cargar ni reescribir la entidad completa ni su colección de teléfonos.
+     *
+     * @param id el ID del usuario.
+     * @param lastLogin la fecha del inicio de sesión.
+     * @return la cantidad de filas actualizadas.
+     */
+    @Modifying
+    @Transactional
+    @Query("update users u set u.lastLogin = :lastLogin where u.id = :id")
+    int updateLastLogin(@Param("id") UUID id, @Param("lastLogin") LocalDateTime lastLogin);
+
+    /**
+     * Incrementa la versión de los tokens de un usuario, lo que invalida todos sus tokens emitidos.
+     *
+     * @param id el ID del usuario.
+     * @return la cantidad de filas actualizadas.
+     */
+    @Modifying
+    @Transactional
+    @Query("update users u set u.tokenVersion = u.tokenVersion + 1 where u.id = :id and u.deletedAt is null")
+    int incrementTokenVersion(@Param("id") UUID id);
+
+    /**
+     * Obtiene la versión actual de los tokens de un usuario.
+     *
+     * @param id el ID del usuario.
+     * @return un {@link Optional} con la versión, o vacío si el usuario no existe.
+     */
+    @Query("select u.tokenVersion from users u where u.id = :id")
+    Optional<Integer> findTokenVersionById(@Param("id") UUID id);
+
+    /**
+     * Obtiene los usuarios cuya versión de tokens es mayor que la indicada, es decir, los que revocaron tokens.
+     *
+     * @param tokenVersion la versión a partir de la cual se incluyen los usuarios.
+     * @return la lista de IDs de usuario con su versión de tokens.
+     */
+    List<UserTokenVersionView> findByTokenVersionGreaterThan(int tokenVersion);
 }
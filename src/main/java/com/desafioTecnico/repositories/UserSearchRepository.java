@@ -0,0 +1,27 @@
+package com.desafioTecnico.repositories;
+
+import com.desafioTecnico.dtos.UserResponseDto;
+import com.desafioTecnico.dtos.UserSearchCriteriaDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Fragmento de {@link UserRepository} con la búsqueda de usuarios por filtros combinables, que se construye
+ * con la API Criteria porque la consulta depende de los filtros presentes.
+ */
+public interface UserSearchRepository {
+
+    /**
+     * Busca los usuarios que cumplen los filtros indicados, ordenados por fecha de creación e ID, a partir de
+     * la posición indicada (paginación keyset).
+     *
+     * @param criteria filtros de la búsqueda; los nulos o vacíos se ignoran.
+     * @param afterCreated fecha de creación del último usuario de la página anterior, o {@code null}.
+     * @param afterId ID del último usuario de la página anterior, o {@code null}.
+     * @param limit cantidad máxima de usuarios a devolver.
+     * @return la lista de usuarios encontrados, sin teléfonos.
+     */
+    List<UserResponseDto> search(UserSearchCriteriaDto criteria, LocalDateTime afterCreated, UUID afterId, int limit);
+}
@@ -0,0 +1,122 @@
+package com.desafioTecnico.repositories;
+
+import com.desafioTecnico.dtos.UserResponseDto;
+import com.desafioTecnico.dtos.UserSearchCriteriaDto;
+import com.desafioTecnico.models.Phone;
+import com.desafioTecnico.models.User;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Subquery;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementación de la búsqueda de usuarios. Solo se agregan a la consulta los filtros presentes, para que
+ * la base de datos pueda usar el índice correspondiente: los prefijos se traducen a {@code LIKE 'prefijo%'}
+ * sobre los índices de {@code email} y {@code name}, y los filtros de teléfono a una subconsulta
+ * {@code EXISTS} sobre el índice de {@code phones (number, city_code, contry_code)}.
+ */
+public class UserSearchRepositoryImpl implements UserSearchRepository {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<UserResponseDto> search(UserSearchCriteriaDto criteria, LocalDateTime afterCreated, UUID afterId,
+                                        int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<UserResponseDto> query = cb.createQuery(UserResponseDto.class);
+        Root<User> user = query.from(User.class);
+        Path<LocalDateTime> created = user.get("created");
+        Path<UUID> id = user.get("id");
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (hasText(criteria.getEmail())) {
+            predicates.add(cb.like(user.get("email"), prefixPattern(criteria.getEmail()), LIKE_ESCAPE));
+        }
+        if (hasText(criteria.getName())) {
+            predicates.add(cb.like(user.get("name"), prefixPattern(criteria.getName()), LIKE_ESCAPE));
+        }
+        if (criteria.getCreatedFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(created, criteria.getCreatedFrom()));
+        }
+        if (criteria.getCreatedTo() != null) {
+            predicates.add(cb.lessThan(created, criteria.getCreatedTo()));
+        }
+        if (criteria.getActive() != null) {
+            predicates.add(cb.equal(user.get("isActive"), criteria.getActive()));
+        }
+        if (hasText(criteria.getNumber()) || hasText(criteria.getCityCode()) || hasText(criteria.getContryCode())) {
+            predicates.add(cb.exists(phoneSubquery(cb, query, user, criteria)));
+        }
+        if (afterCreated != null && afterId != null) {
+            predicates.add(cb.or(cb.greaterThan(created, afterCreated),
+                    cb.and(cb.equal(created, afterCreated), cb.greaterThan(id, afterId))));
+        }
+
+        query.select(cb.construct(UserResponseDto.class, id, user.get("name"), user.get("email"), created,
+                        user.get("modified"), user.get("lastLogin"), user.get("isActive")))
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.asc(created), cb.asc(id));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    /**
+     * Crea la subconsulta que selecciona los teléfonos del usuario que cumplen los filtros de teléfono.
+     *
+     * @param cb constructor de la consulta.
+     * @param query consulta principal.
+     * @param user raíz de la consulta principal.
+     * @param criteria filtros de la búsqueda.
+     * @return la subconsulta correlacionada con el usuario.
+     */
+    private static Subquery<Long> phoneSubquery(CriteriaBuilder cb, CriteriaQuery<?> query, Root<User> user,
+                                                UserSearchCriteriaDto criteria) {
+        Subquery<Long> subquery = query.subquery(Long.class);
+        Root<User> owner = subquery.correlate(user);
+        Join<User, Phone> phone = owner.join("phones");
+        List<Predicate> predicates = new ArrayList<>();
+        if (hasText(criteria.getNumber())) {
+            predicates.add(cb.equal(phone.get("number"), criteria.getNumber()));
+        }
+        if (hasText(criteria.getCityCode())) {
+            predicates.add(cb.equal(phone.get("cityCode"), criteria.getCityCode()));
+        }
+        if (hasText(criteria.getContryCode())) {
+            predicates.add(cb.equal(phone.get("contryCode"), criteria.getContryCode()));
+        }
+        return subquery.select(phone.get("id")).where(predicates.toArray(new Predicate[0]));
+    }
+
+    /**
+     * Convierte un prefijo en un patrón {@code LIKE}, escapando los comodines que contenga.
+     *
+     * @param prefix el prefijo buscado.
+     * @return el patrón que coincide con los valores que empiezan por el prefijo.
+     */
+    static String prefixPattern(String prefix) {
+        StringBuilder pattern = new StringBuilder(prefix.length() + 1);
+        for (char c : prefix.toCharArray()) {
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                pattern.append(LIKE_ESCAPE);
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isEmpty();
+    }
+}
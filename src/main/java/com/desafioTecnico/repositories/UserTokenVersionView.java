@@ -0,0 +1,13 @@
+package com.desafioTecnico.repositories;
+
+import java.util.UUID;
+
+/**
+ * Proyección con el ID de un usuario y la versión actual de sus tokens.
+ */
+public interface UserTokenVersionView {
+
+    UUID getId();
+
+    int getTokenVersion();
+}
@@ -0,0 +1,22 @@
+package com.desafioTecnico.services;
+
+import com.desafioTecnico.dtos.BulkRegistrationResultDto;
+import com.desafioTecnico.dtos.UserRequestDto;
+
+import java.util.Iterator;
+
+/**
+ * Interfaz que define el registro masivo de usuarios.
+ */
+public interface BulkUserRegistrationService {
+
+    /**
+     * Registra los usuarios recibidos. Cada registro se valida de forma independiente, por lo que un
+     * registro inválido no impide el alta de los demás. Si el iterador falla al leer un registro, el
+     * procesamiento se detiene y el informe incluye ese registro como rechazado.
+     *
+     * @param requests iterador sobre las solicitudes de registro; se consume de forma incremental.
+     * @return el informe con el resultado de cada registro.
+     */
+    BulkRegistrationResultDto registerUsers(Iterator<UserRequestDto> requests);
+}
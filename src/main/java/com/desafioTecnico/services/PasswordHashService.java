@@ -0,0 +1,38 @@
+package com.desafioTecnico.services;
+
+/**
+ * Interfaz que define el servicio de cifrado y verificación de contraseñas.
+ * Las implementaciones deben evitar que el cálculo del hash, costoso en CPU,
+ * se ejecute sin límite sobre los hilos que atienden las solicitudes HTTP.
+ */
+public interface PasswordHashService {
+
+    /**
+     * Calcula el hash de una contraseña.
+     *
+     * @param rawPassword la contraseña en texto plano.
+     * @return el hash de la contraseña.
+     * @throws com.desafioTecnico.exceptions.ServiceBusyException si no hay capacidad para calcular el hash.
+     */
+    String hash(String rawPassword);
+
+    /**
+     * Calcula el hash de una contraseña en el hilo actual, sin pasar por el pool dedicado.
+     * Solo debe usarse desde hilos de trabajo que ya tienen su propio límite de concurrencia,
+     * como los del registro masivo.
+     *
+     * @param rawPassword la contraseña en texto plano.
+     * @return el hash de la contraseña.
+     */
+    String hashInCurrentThread(String rawPassword);
+
+    /**
+     * Verifica si una contraseña en texto plano corresponde a un hash almacenado.
+     *
+     * @param rawPassword la contraseña en texto plano.
+     * @param hashedPassword el hash almacenado.
+     * @return {@code true} si la contraseña corresponde al hash.
+     * @throws com.desafioTecnico.exceptions.ServiceBusyException si no hay capacidad para verificar la contraseña.
+     */
+    boolean matches(String rawPassword, String hashedPassword);
+}
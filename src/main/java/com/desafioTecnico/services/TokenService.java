@@ -0,0 +1,30 @@
+package com.desafioTecnico.services;
+
+import com.desafioTecnico.dtos.TokenClaimsDto;
+
+import java.util.UUID;
+
+/**
+ * Interfaz que define el servicio de emisión y verificación de tokens de acceso.
+ */
+public interface TokenService {
+
+    /**
+     * Genera un token JWT para el usuario.
+     *
+     * @param userId El ID del usuario.
+     * @param email El correo del usuario, utilizado como sujeto del token.
+     * @param tokenVersion La versión actual de los tokens del usuario.
+     * @return El token JWT generado.
+     */
+    String generateToken(UUID userId, String email, int tokenVersion);
+
+    /**
+     * Verifica la firma, la vigencia y la revocación de un token JWT sin consultar la base de datos.
+     *
+     * @param token El token JWT recibido.
+     * @return Los datos del token verificado.
+     * @throws com.desafioTecnico.exceptions.InvalidTokenException Si el token no es válido, expiró o fue revocado.
+     */
+    TokenClaimsDto verifyToken(String token);
+}
@@ -0,0 +1,61 @@
+package com.desafioTecnico.services;
+
+import com.desafioTecnico.dtos.UserChangeFeedDto;
+import com.desafioTecnico.dtos.UserResponseDto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Interfaz que define el registro y la consulta de los cambios en el ciclo de vida de los usuarios
+ * (outbox transaccional).
+ */
+public interface UserChangeService {
+
+    /**
+     * Registra la creación o modificación de un usuario en la transacción actual.
+     *
+     * @param type el tipo de cambio ({@code CREATED} o {@code UPDATED}).
+     * @param user el estado del usuario después del cambio.
+     */
+    void recordChange(String type, UserResponseDto user);
+
+    /**
+     * Registra la creación o modificación de varios usuarios en la transacción actual, con una sola
+     * sentencia por lotes.
+     *
+     * @param type el tipo de cambio.
+     * @param users el estado de los usuarios después del cambio.
+     */
+    void recordChanges(String type, List<UserResponseDto> users);
+
+    /**
+     * Registra la eliminación de un usuario en la transacción actual.
+     *
+     * @param userId el ID del usuario eliminado.
+     */
+    void recordDeletion(UUID userId);
+
+    /**
+     * Registra la eliminación de varios usuarios en la transacción actual, con una sola sentencia por lotes.
+     *
+     * @param userIds los IDs de los usuarios eliminados.
+     */
+    void recordDeletions(List<UUID> userIds);
+
+    /**
+     * Obtiene los cambios publicados posteriores a una posición del flujo de cambios.
+     *
+     * @param since la posición del último cambio procesado por el consumidor, o 0 para empezar desde el inicio.
+     * @param limit cantidad máxima de cambios a devolver.
+     * @return la página de cambios y la posición desde la que continuar.
+     */
+    UserChangeFeedDto findChanges(long since, Integer limit);
+
+    /**
+     * Publica en el {@link UserChangeSink} los cambios registrados y aún no publicados.
+     *
+     * @return la cantidad de cambios publicados.
+     */
+    int relayPendingChanges();
+}
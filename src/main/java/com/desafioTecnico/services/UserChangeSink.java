@@ -0,0 +1,23 @@
+package com.desafioTecnico.services;
+
+import com.desafioTecnico.dtos.UserChangeDto;
+
+import java.util.List;
+
+/**
+ * Destino al que el relay del outbox publica los cambios de usuarios. La implementación se elige con
+ * {@code user.outbox.sink}.
+ * <p>
+ * La entrega es "al menos una vez": si la publicación falla, o la transacción del relay no se confirma, el lote
+ * se vuelve a publicar, por lo que los consumidores deben descartar los cambios cuyo {@code seq} ya procesaron.
+ */
+public interface UserChangeSink {
+
+    /**
+     * Publica un lote de cambios, en el orden de su {@code seq}.
+     *
+     * @param changes los cambios a publicar.
+     * @throws RuntimeException si no se pudo publicar; el lote se reintenta en la siguiente ejecución del relay.
+     */
+    void publish(List<UserChangeDto> changes);
+}
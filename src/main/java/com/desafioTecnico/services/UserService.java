@@ -1,10 +1,21 @@
 package com.desafioTecnico.services;
 
+import com.desafioTecnico.dtos.BulkDeleteResultDto;
+import com.desafioTecnico.dtos.CacheStatsDto;
+import com.desafioTecnico.dtos.CursorPageDto;
+import com.desafioTecnico.dtos.LoginRequestDto;
+import com.desafioTecnico.dtos.LoginResponseDto;
+import com.desafioTecnico.dtos.SerializedUserDto;
+import com.desafioTecnico.dtos.TokenClaimsDto;
 import com.desafioTecnico.dtos.UserRequestDto;
+import com.desafioTecnico.dtos.UserResponseDto;
+import com.desafioTecnico.dtos.UserSearchCriteriaDto;
 import com.desafioTecnico.models.User;
+import com.fasterxml.jackson.databind.JsonNode;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Interfaz que define los servicios relacionados con la gestión de usuarios.
@@ -27,32 +38,134 @@ public interface UserService {
      *
      * @param id el ID del usuario a buscar.
      * @return el objeto {@link User} que representa al usuario encontrado.
-     * @throws RuntimeException si no se encuentra un usuario con el ID especificado.
+     * @throws com.desafioTecnico.exceptions.UserNotFoundException si no se encuentra un usuario con el ID especificado.
      */
     User findById(UUID id);
 
     /**
-     * Obtiene una lista de todos los usuarios registrados en el sistema.
+     * Obtiene la respuesta JSON de un usuario por su ID, desde la caché de respuestas si está disponible.
+     *
+     * @param id el ID del usuario a buscar.
+     * @return la representación JSON del usuario junto con su ETag.
+     * @throws com.desafioTecnico.exceptions.UserNotFoundException si no se encuentra un usuario con el ID especificado.
+     */
+    SerializedUserDto findSerializedById(UUID id);
+
+    /**
+     * Obtiene las métricas de la caché de respuestas de usuarios.
      *
-     * @return una lista de objetos {@link User} que representan a todos los usuarios.
+     * @return los aciertos, fallos y desalojos de la caché.
      */
-    List<User> findAll();
+    CacheStatsDto getResponseCacheStats();
+
+    /**
+     * Obtiene una página de usuarios usando paginación por cursor (keyset) sobre la fecha de creación y el ID.
+     *
+     * @param cursor cursor devuelto por la página anterior, o {@code null} para obtener la primera página.
+     * @param size cantidad de usuarios solicitada; si es nula se usa el tamaño por defecto configurado.
+     * @return la página de usuarios con sus teléfonos junto con el cursor para obtener la siguiente.
+     * @throws com.desafioTecnico.exceptions.InvalidCursorException si el cursor no es válido.
+     */
+    CursorPageDto<UserResponseDto> findPage(String cursor, Integer size);
+
+    /**
+     * Busca usuarios por prefijo de correo o nombre, rango de fechas de creación, estado y teléfono, con
+     * paginación por cursor sobre la fecha de creación y el ID.
+     *
+     * @param criteria filtros de la búsqueda; los omitidos no restringen el resultado.
+     * @param cursor cursor devuelto por la página anterior, o {@code null} para obtener la primera página.
+     * @param size cantidad de usuarios solicitada; si es nula se usa el tamaño por defecto configurado.
+     * @return la página de usuarios encontrados con sus teléfonos junto con el cursor para obtener la siguiente.
+     * @throws com.desafioTecnico.exceptions.InvalidCursorException si el cursor no es válido.
+     */
+    CursorPageDto<UserResponseDto> searchUsers(UserSearchCriteriaDto criteria, String cursor, Integer size);
+
+    /**
+     * Sugiere correos registrados que empiezan por el prefijo indicado, para autocompletar.
+     *
+     * @param prefix el prefijo escrito por el usuario.
+     * @param limit cantidad máxima de sugerencias; si es nula se usa el tamaño por defecto configurado.
+     * @return los correos en orden alfabético, o una lista vacía si el prefijo está vacío.
+     */
+    List<String> suggestEmails(String prefix, Integer limit);
+
+    /**
+     * Recorre todos los usuarios del sistema entregándolos uno a uno al consumidor indicado,
+     * sin cargar la tabla completa en memoria.
+     *
+     * @param consumer consumidor que recibe cada usuario en orden de creación.
+     */
+    void streamAll(Consumer<UserResponseDto> consumer);
 
     /**
      * Actualiza la información de un usuario existente.
      *
      * @param id el ID del usuario a actualizar.
      * @param userRequestDto objeto que contiene la nueva información del usuario.
+     * @param ifMatch valor opcional de la cabecera {@code If-Match} con el ETag leído por el cliente.
      * @return el objeto {@link User} que representa al usuario actualizado.
      * @throws RuntimeException si no se encuentra un usuario con el ID especificado.
+     * @throws org.springframework.dao.OptimisticLockingFailureException si {@code ifMatch} no corresponde a la
+     *         versión actual del usuario.
      */
-    User updateUser(UUID id, UserRequestDto userRequestDto);
+    User updateUser(UUID id, UserRequestDto userRequestDto, String ifMatch);
 
     /**
-     * Elimina un usuario del sistema por su ID.
+     * Actualiza parcialmente un usuario con un documento JSON Merge Patch. Solo se modifican los campos
+     * presentes en el documento.
+     *
+     * @param id el ID del usuario a actualizar.
+     * @param patch documento con los campos {@code name}, {@code email}, {@code password}, {@code active}
+     *              y/o {@code phones} a modificar.
+     * @param ifMatch valor opcional de la cabecera {@code If-Match} con el ETag leído por el cliente.
+     * @return el objeto {@link User} que representa al usuario actualizado.
+     * @throws com.desafioTecnico.exceptions.InvalidPatchException si el documento no es válido.
+     * @throws com.desafioTecnico.exceptions.UserNotFoundException si no se encuentra el usuario.
+     * @throws org.springframework.dao.OptimisticLockingFailureException si {@code ifMatch} no corresponde a la
+     *         versión actual del usuario.
+     */
+    User patchUser(UUID id, JsonNode patch, String ifMatch);
+
+    /**
+     * Elimina un usuario del sistema por su ID. La baja es lógica; el usuario se elimina definitivamente
+     * con la purga periódica.
      *
      * @param id el ID del usuario a eliminar.
-     * @throws RuntimeException si no se encuentra un usuario con el ID especificado.
+     * @throws com.desafioTecnico.exceptions.UserNotFoundException si no se encuentra un usuario con el ID especificado.
      */
     void deleteUser(UUID id);
+
+    /**
+     * Elimina varios usuarios del sistema por sus IDs. Los IDs que no existen se ignoran.
+     *
+     * @param ids los IDs de los usuarios a eliminar.
+     * @return la cantidad de IDs recibidos y de usuarios eliminados.
+     */
+    BulkDeleteResultDto deleteUsers(List<UUID> ids);
+
+    /**
+     * Autentica a un usuario con su correo y contraseña y emite un nuevo token.
+     *
+     * @param loginRequestDto objeto que contiene el correo y la contraseña.
+     * @param clientIp dirección IP del cliente, utilizada para limitar los intentos.
+     * @return el objeto {@link LoginResponseDto} con el token emitido.
+     * @throws com.desafioTecnico.exceptions.InvalidCredentialsException si las credenciales no son válidas.
+     * @throws com.desafioTecnico.exceptions.TooManyRequestsException si se superó el límite de intentos.
+     */
+    LoginResponseDto login(LoginRequestDto loginRequestDto, String clientIp);
+
+    /**
+     * Cierra la sesión revocando el token indicado hasta su expiración.
+     *
+     * @param claims los datos del token con el que se autenticó la solicitud.
+     */
+    void logout(TokenClaimsDto claims);
+
+    /**
+     * Revoca todos los tokens emitidos para un usuario.
+     *
+     * @param id el ID del usuario.
+     * @throws com.desafioTecnico.exceptions.UserNotFoundException si no se encuentra un usuario con el ID especificado.
+     */
+    void revokeTokens(UUID id);
 }
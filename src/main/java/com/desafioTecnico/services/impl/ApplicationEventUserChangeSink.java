@@ -0,0 +1,35 @@
+package com.desafioTecnico.services.impl;
+
+import com.desafioTecnico.dtos.UserChangeDto;
+import com.desafioTecnico.services.UserChangeSink;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Destino de cambios por defecto ({@code user.outbox.sink=event}): publica cada cambio como evento de Spring,
+ * que los componentes de la aplicación reciben con un método {@code @EventListener} que acepta un
+ * {@link UserChangeDto}. Los oyentes se ejecutan en el hilo del relay y dentro de su transacción.
+ */
+@Service
+@ConditionalOnProperty(name = "user.outbox.sink", havingValue = "event", matchIfMissing = true)
+public class ApplicationEventUserChangeSink implements UserChangeSink {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Constructor de ApplicationEventUserChangeSink.
+     *
+     * @param eventPublisher publicador de eventos de la aplicación.
+     */
+    public ApplicationEventUserChangeSink(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void publish(List<UserChangeDto> changes) {
+        changes.forEach(eventPublisher::publishEvent);
+    }
+}
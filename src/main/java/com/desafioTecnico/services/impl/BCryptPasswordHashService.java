@@ -0,0 +1,138 @@
+package com.desafioTecnico.services.impl;
+
+import com.desafioTecnico.exceptions.ServiceBusyException;
+import com.desafioTecnico.services.PasswordHashService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.mindrot.jbcrypt.BCrypt;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Implementación del servicio de contraseñas basada en BCrypt.
+ * El cálculo se ejecuta en un pool de hilos dedicado y acotado; si el pool está saturado
+ * la solicitud se rechaza de inmediato con {@link ServiceBusyException}.
+ * El tiempo de cálculo se mide en {@code user.password.bcrypt} (etiqueta {@code operation}) y los rechazos
+ * se cuentan en {@code user.password.bcrypt.rejected}.
+ */
+@Service
+public class BCryptPasswordHashService implements PasswordHashService {
+
+    private static final String BUSY_MESSAGE = "El servicio está ocupado, intente nuevamente más tarde";
+
+    private final ExecutorService executor;
+
+    private final int cost;
+
+    private final long timeoutMillis;
+
+    private final Timer hashTimer;
+
+    private final Timer verifyTimer;
+
+    private final Counter rejections;
+
+    /**
+     * Constructor de BCryptPasswordHashService.
+     *
+     * @param executor pool de hilos dedicado al cálculo de hashes.
+     * @param cost factor de costo de BCrypt (logaritmo en base 2 de las iteraciones).
+     * @param timeoutMillis tiempo máximo de espera por el resultado, en milisegundos.
+     * @param meterRegistry registro de métricas.
+     */
+    public BCryptPasswordHashService(@Qualifier("passwordHashExecutor") ExecutorService executor,
+                                     @Value("${user.password.hash.cost:10}") int cost,
+                                     @Value("${user.password.hash.timeout-ms:5000}") long timeoutMillis,
+                                     MeterRegistry meterRegistry) {
+        this.executor = executor;
+        this.cost = cost;
+        this.timeoutMillis = timeoutMillis;
+        this.hashTimer = meterRegistry.timer("user.password.bcrypt", "operation", "hash");
+        this.verifyTimer = meterRegistry.timer("user.password.bcrypt", "operation", "verify");
+        this.rejections = meterRegistry.counter("user.password.bcrypt.rejected");
+    }
+
+    /**
+     * Calcula el hash BCrypt de una contraseña con el costo configurado.
+     *
+     * @param rawPassword la contraseña en texto plano.
+     * @return el hash de la contraseña.
+     */
+    @Override
+    public String hash(String rawPassword) {
+        return execute(() -> hashInCurrentThread(rawPassword));
+    }
+
+    /**
+     * Calcula el hash BCrypt de una contraseña en el hilo actual con el costo configurado.
+     *
+     * @param rawPassword la contraseña en texto plano.
+     * @return el hash de la contraseña.
+     */
+    @Override
+    public String hashInCurrentThread(String rawPassword) {
+        return hashTimer.record(() -> BCrypt.hashpw(rawPassword, BCrypt.gensalt(cost)));
+    }
+
+    /**
+     * Verifica una contraseña contra un hash BCrypt.
+     *
+     * @param rawPassword la contraseña en texto plano.
+     * @param hashedPassword el hash almacenado.
+     * @return {@code true} si la contraseña corresponde al hash.
+     */
+    @Override
+    public boolean matches(String rawPassword, String hashedPassword) {
+        return execute(() -> verifyTimer.record(() -> BCrypt.checkpw(rawPassword, hashedPassword)));
+    }
+
+    /**
+     * Ejecuta una tarea en el pool dedicado y espera su resultado.
+     * <p>
+     * Si la tarea no termina en {@code user.password.hash.timeout-ms}, se cancela y la solicitud se rechaza. La
+     * cancelación descarta la tarea si todavía estaba en la cola, pero no detiene un cálculo ya iniciado: BCrypt no
+     * responde a la interrupción, por lo que el hilo del pool sigue ocupado hasta terminarlo. El plazo solo acota
+     * la espera de quien llama; no libera capacidad del pool antes.
+     *
+     * @param task la tarea a ejecutar.
+     * @param <T> tipo del resultado.
+     * @return el resultado de la tarea.
+     * @throws ServiceBusyException si el pool está saturado o la tarea no termina a tiempo.
+     */
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            throw new ServiceBusyException(BUSY_MESSAGE);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejections.increment();
+            throw new ServiceBusyException(BUSY_MESSAGE);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException(BUSY_MESSAGE);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,412 @@
+package com.desafioTecnico.services.impl;
+
+import com.desafioTecnico.components.EmailIndex;
+import com.desafioTecnico.dtos.BulkRegistrationItemDto;
+import com.desafioTecnico.dtos.BulkRegistrationResultDto;
+import com.desafioTecnico.dtos.PhoneDto;
+import com.desafioTecnico.dtos.PhoneResponseDto;
+import com.desafioTecnico.dtos.UserChangeDto;
+import com.desafioTecnico.dtos.UserRequestDto;
+import com.desafioTecnico.dtos.UserResponseDto;
+import com.desafioTecnico.exceptions.EmailValidationException;
+import com.desafioTecnico.exceptions.PasswordValidationException;
+import com.desafioTecnico.models.Phone;
+import com.desafioTecnico.models.TimeOrderedUuidGenerator;
+import com.desafioTecnico.repositories.UserRepository;
+import com.desafioTecnico.services.BulkUserRegistrationService;
+import com.desafioTecnico.services.PasswordHashService;
+import com.desafioTecnico.services.UserChangeService;
+import com.desafioTecnico.validators.Validator;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.validation.ConstraintViolation;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+
+/**
+ * Implementación del registro masivo de usuarios.
+ * Los registros se procesan en lotes: la validación se ejecuta en paralelo, los correos duplicados se
+ * detectan con una sola consulta por lote, las contraseñas se cifran en un pool de hilos dedicado y
+ * los usuarios y teléfonos se insertan con sentencias JDBC por lotes en una transacción por lote, junto con
+ * sus cambios en el outbox ({@link UserChangeService}).
+ */
+@Service
+public class BulkUserRegistrationServiceImpl implements BulkUserRegistrationService {
+
+    private static final String INSERT_USER = "INSERT INTO users " +
+            "(id, name, email, password, created, modified, last_login, is_active, token_version, version) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_PHONE = "INSERT INTO phones (id, number, city_code, contry_code, user_id) " +
+            "VALUES (?, ?, ?, ?, ?)";
+
+    private static final String NEXT_PHONE_ID_BLOCKS = "SELECT NEXT VALUE FOR phones_seq FROM SYSTEM_RANGE(1, ?)";
+
+    private final UserRepository userRepository;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final javax.validation.Validator beanValidator;
+
+    private final Validator<String> emailValidator;
+
+    private final Validator<String> passwordValidator;
+
+    private final PasswordHashService passwordHashService;
+
+    private final EmailIndex emailIndex;
+
+    private final UserChangeService userChangeService;
+
+    private final ExecutorService executor;
+
+    private final int chunkSize;
+
+    private final int maxRecords;
+
+    /**
+     * Constructor de BulkUserRegistrationServiceImpl.
+     *
+     * @param userRepository Repositorio de usuarios utilizado para detectar correos ya registrados.
+     * @param jdbcTemplate Plantilla JDBC utilizada para las inserciones por lotes.
+     * @param transactionManager Gestor de transacciones utilizado para confirmar cada lote.
+     * @param beanValidator Validador de las restricciones declaradas en los DTO.
+     * @param emailValidator Cadena de validación del formato de correo.
+     * @param passwordValidator Cadena de validación de la política de contraseñas.
+     * @param passwordHashService Servicio utilizado para cifrar las contraseñas.
+     * @param emailIndex Índice en memoria de los correos registrados.
+     * @param userChangeService Outbox en el que se registran los usuarios creados.
+     * @param executor Pool de hilos dedicado al registro masivo.
+     * @param chunkSize Cantidad de registros procesados por lote y por transacción.
+     * @param maxRecords Cantidad máxima de registros aceptados por solicitud.
+     */
+    public BulkUserRegistrationServiceImpl(UserRepository userRepository, JdbcTemplate jdbcTemplate,
+                                           PlatformTransactionManager transactionManager,
+                                           javax.validation.Validator beanValidator,
+                                           @Qualifier("emailValidatorChain") Validator<String> emailValidator,
+                                           @Qualifier("passwordValidatorChain") Validator<String> passwordValidator,
+                                           PasswordHashService passwordHashService, EmailIndex emailIndex,
+                                           UserChangeService userChangeService,
+                                           @Qualifier("bulkRegistrationExecutor") ExecutorService executor,
+                                           @Value("${user.bulk.chunk-size:1000}") int chunkSize,
+                                           @Value("${user.bulk.max-records:50000}") int maxRecords) {
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.beanValidator = beanValidator;
+        this.emailValidator = emailValidator;
+        this.passwordValidator = passwordValidator;
+        this.passwordHashService = passwordHashService;
+        this.emailIndex = emailIndex;
+        this.userChangeService = userChangeService;
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+        this.maxRecords = maxRecords;
+    }
+
+    /**
+     * Registra los usuarios recibidos, procesándolos en lotes de tamaño fijo para que la memoria utilizada
+     * no dependa de la cantidad de registros de la solicitud.
+     * <p>
+     * Cada lote se confirma antes de leer el siguiente, por lo que un registro que no se puede leer (por ejemplo,
+     * un JSON mal formado) no revierte los lotes anteriores: la lectura se detiene en ese registro, que se informa
+     * como rechazado con el motivo, y el informe se devuelve con {@code truncated} en {@code true}.
+     *
+     * @param requests iterador sobre las solicitudes de registro.
+     * @return el informe con el resultado de cada registro.
+     */
+    @Override
+    public BulkRegistrationResultDto registerUsers(Iterator<UserRequestDto> requests) {
+        List<BulkRegistrationItemDto> results = new ArrayList<>();
+        List<PendingUser> chunk = new ArrayList<>(chunkSize);
+        BulkRegistrationItemDto unreadable = null;
+        int total = 0;
+        boolean truncated = false;
+
+        while (true) {
+            UserRequestDto request;
+            try {
+                if (!requests.hasNext()) {
+                    break;
+                }
+                if (total >= maxRecords) {
+                    truncated = true;
+                    break;
+                }
+                request = requests.next();
+            } catch (RuntimeException e) {
+                unreadable = new BulkRegistrationItemDto(total++, null, BulkRegistrationItemDto.REJECTED, null,
+                        unreadableRecordMessage(e));
+                truncated = true;
+                break;
+            }
+            chunk.add(new PendingUser(total++, request != null ? request : new UserRequestDto()));
+            if (chunk.size() == chunkSize) {
+                processChunk(chunk, results);
+                chunk.clear();
+            }
+        }
+        processChunk(chunk, results);
+        if (unreadable != null) {
+            results.add(unreadable);
+        }
+
+        int created = (int) results.stream()
+                .filter(result -> BulkRegistrationItemDto.CREATED.equals(result.getStatus()))
+                .count();
+        return new BulkRegistrationResultDto(total, created, total - created, truncated, results);
+    }
+
+    /**
+     * Construye el motivo de rechazo de un registro que no se pudo leer, con la primera línea del error del
+     * analizador JSON (las siguientes solo indican la posición en el cuerpo de la solicitud).
+     *
+     * @param e el error producido al leer el registro.
+     * @return el motivo de rechazo.
+     */
+    private static String unreadableRecordMessage(RuntimeException e) {
+        String detail = e.getMessage();
+        if (detail == null || detail.isBlank()) {
+            return "El registro no es un JSON válido";
+        }
+        int lineBreak = detail.indexOf('\n');
+        return "El registro no es un JSON válido: " + (lineBreak < 0 ? detail : detail.substring(0, lineBreak));
+    }
+
+    /**
+     * Procesa un lote de registros y agrega sus resultados al informe.
+     *
+     * @param chunk registros del lote.
+     * @param results informe al que se agregan los resultados.
+     */
+    private void processChunk(List<PendingUser> chunk, List<BulkRegistrationItemDto> results) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        chunk.parallelStream().forEach(this::validate);
+        rejectDuplicateEmails(chunk);
+        hashPasswords(chunk);
+
+        List<PendingUser> valid = chunk.stream()
+                .filter(pending -> pending.error == null)
+                .collect(Collectors.toList());
+        insert(valid);
+
+        for (PendingUser pending : chunk) {
+            if (pending.error == null) {
+                emailIndex.add(pending.request.getEmail());
+                results.add(new BulkRegistrationItemDto(pending.index, pending.request.getEmail(),
+                        BulkRegistrationItemDto.CREATED, pending.id, null));
+            } else {
+                results.add(new BulkRegistrationItemDto(pending.index, pending.request.getEmail(),
+                        BulkRegistrationItemDto.REJECTED, null, pending.error));
+            }
+        }
+    }
+
+    /**
+     * Valida las restricciones del DTO, el formato del correo y la política de contraseñas de un registro.
+     *
+     * @param pending el registro a validar.
+     */
+    private void validate(PendingUser pending) {
+        Set<ConstraintViolation<UserRequestDto>> violations = beanValidator.validate(pending.request);
+        if (!violations.isEmpty()) {
+            pending.error = violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+            return;
+        }
+        try {
+            emailValidator.validate(pending.request.getEmail());
+            passwordValidator.validate(pending.request.getPassword());
+        } catch (EmailValidationException | PasswordValidationException e) {
+            pending.error = e.getMessage();
+        }
+    }
+
+    /**
+     * Rechaza los registros cuyo correo se repite dentro de la solicitud o ya está registrado.
+     * Solo se consultan en la base de datos los correos que el índice en memoria no descarta.
+     *
+     * @param chunk registros del lote.
+     */
+    private void rejectDuplicateEmails(List<PendingUser> chunk) {
+        Set<String> seen = new HashSet<>();
+        Set<String> candidates = new HashSet<>();
+        for (PendingUser pending : chunk) {
+            if (pending.error != null) {
+                continue;
+            }
+            String email = pending.request.getEmail();
+            if (!seen.add(email)) {
+                pending.error = "El correo está repetido en la solicitud";
+            } else if (emailIndex.mightContain(email)) {
+                candidates.add(email);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        Set<String> existing = new HashSet<>(userRepository.findExistingEmails(candidates));
+        for (PendingUser pending : chunk) {
+            if (pending.error == null && existing.contains(pending.request.getEmail())) {
+                pending.error = "El correo ya registrado";
+            }
+        }
+    }
+
+    /**
+     * Cifra las contraseñas de los registros válidos en el pool dedicado.
+     *
+     * @param chunk registros del lote.
+     */
+    private void hashPasswords(List<PendingUser> chunk) {
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+        for (PendingUser pending : chunk) {
+            if (pending.error == null) {
+                tasks.add(CompletableFuture.runAsync(() -> pending.hashedPassword =
+                        passwordHashService.hashInCurrentThread(pending.request.getPassword()), executor));
+            }
+        }
+        CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).join();
+    }
+
+    /**
+     * Inserta los registros válidos en una sola transacción. Si el lote viola una restricción de integridad,
+     * por ejemplo por un registro concurrente con el mismo correo, se reintenta registro por registro
+     * para identificar los que fallan. Solo las violaciones del índice {@code uk_users_active_email} se
+     * informan como correo ya registrado; las demás se informan con su causa.
+     *
+     * @param valid registros válidos del lote.
+     */
+    private void insert(List<PendingUser> valid) {
+        if (valid.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> insertBatch(valid));
+        } catch (DataIntegrityViolationException e) {
+            for (PendingUser pending : valid) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> insertBatch(List.of(pending)));
+                } catch (DataIntegrityViolationException violation) {
+                    pending.error = UniqueEmailConstraint.isViolatedBy(violation)
+                            ? "El correo ya registrado"
+                            : "No se pudo registrar el usuario: " + violation.getMostSpecificCause().getMessage();
+                }
+            }
+        }
+    }
+
+    /**
+     * Inserta usuarios, teléfonos y los cambios del outbox con sentencias JDBC por lotes.
+     *
+     * @param users registros a insertar.
+     */
+    private void insertBatch(List<PendingUser> users) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> userRows = new ArrayList<>(users.size());
+        List<UserResponseDto> created = new ArrayList<>(users.size());
+        List<PhoneRow> phones = new ArrayList<>();
+        for (PendingUser pending : users) {
+            pending.id = TimeOrderedUuidGenerator.next();
+            UserRequestDto request = pending.request;
+            boolean active = request.getActive() == null || request.getActive();
+            userRows.add(new Object[]{pending.id, request.getName(), request.getEmail(), pending.hashedPassword,
+                    now, now, now, active, 0, 0L});
+            UserResponseDto response = new UserResponseDto(pending.id, request.getName(), request.getEmail(),
+                    now.toLocalDateTime(), now.toLocalDateTime(), now.toLocalDateTime(), active);
+            for (PhoneDto phone : request.getPhones()) {
+                phones.add(new PhoneRow(pending.id, phone));
+                response.getPhones().add(new PhoneResponseDto(phone.getNumber(), phone.getCitycode(),
+                        phone.getContrycode()));
+            }
+            created.add(response);
+        }
+
+        List<Long> phoneIds = nextPhoneIds(phones.size());
+        List<Object[]> phoneRows = new ArrayList<>(phones.size());
+        for (int i = 0; i < phones.size(); i++) {
+            PhoneRow phone = phones.get(i);
+            phoneRows.add(new Object[]{phoneIds.get(i), phone.phone.getNumber(), phone.phone.getCitycode(),
+                    phone.phone.getContrycode(), phone.userId});
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_USER, userRows);
+        jdbcTemplate.batchUpdate(INSERT_PHONE, phoneRows);
+        userChangeService.recordChanges(UserChangeDto.CREATED, created);
+    }
+
+    /**
+     * Reserva IDs de teléfonos en la secuencia {@code phones_seq} con la misma estrategia que el optimizador
+     * pooled de Hibernate: cada valor leído {@code v} reserva el bloque {@code [v - 49, v]}. El valor inicial
+     * de la secuencia se descarta porque no cierra un bloque completo.
+     *
+     * @param count cantidad de IDs requeridos.
+     * @return la lista de IDs reservados.
+     */
+    private List<Long> nextPhoneIds(int count) {
+        List<Long> ids = new ArrayList<>(count);
+        while (ids.size() < count) {
+            int blocks = (count - ids.size() + Phone.ID_ALLOCATION_SIZE - 1) / Phone.ID_ALLOCATION_SIZE;
+            for (Long high : jdbcTemplate.queryForList(NEXT_PHONE_ID_BLOCKS, Long.class, blocks)) {
+                if (high < Phone.ID_ALLOCATION_SIZE) {
+                    continue;
+                }
+                for (long id = high - Phone.ID_ALLOCATION_SIZE + 1; id <= high && ids.size() < count; id++) {
+                    ids.add(id);
+                }
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Estado de un registro durante su procesamiento.
+     */
+    private static final class PendingUser {
+        private final int index;
+        private final UserRequestDto request;
+        private volatile String error;
+        private volatile String hashedPassword;
+        private UUID id;
+
+        private PendingUser(int index, UserRequestDto request) {
+            this.index = index;
+            this.request = request;
+        }
+    }
+
+    /**
+     * Teléfono pendiente de inserción junto con el ID de su usuario.
+     */
+    private static final class PhoneRow {
+        private final UUID userId;
+        private final PhoneDto phone;
+
+        private PhoneRow(UUID userId, PhoneDto phone) {
+            this.userId = userId;
+            this.phone = phone;
+        }
+    }
+}
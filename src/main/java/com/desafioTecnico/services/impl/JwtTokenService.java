@@ -0,0 +1,157 @@
+package com.desafioTecnico.services.impl;
+
+import com.desafioTecnico.components.JwtKeyRing;
+import com.desafioTecnico.components.TokenRevocationList;
+import com.desafioTecnico.configuration.JwtProperties;
+import com.desafioTecnico.dtos.TokenClaimsDto;
+import com.desafioTecnico.exceptions.InvalidTokenException;
+import com.desafioTecnico.services.TokenService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Service;
+
+import java.security.Key;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Implementación del servicio de tokens que emite y verifica JWT firmados con HS512.
+ * Los tokens se firman con la clave activa del {@link JwtKeyRing} e incluyen su identificador en la cabecera
+ * {@code kid}. Los tokens ya verificados se guardan en una caché LRU indexada por el token completo, de modo
+ * que las solicitudes siguientes con el mismo token solo comprueban su expiración y su revocación.
+ * Los tokens incluyen el ID del usuario ({@code uid}) y la versión de sus tokens ({@code ver}), utilizados
+ * por la {@link TokenRevocationList}. Las estadísticas de la caché se publican como métricas {@code cache.*}
+ * con la etiqueta {@code cache=verifiedTokens}.
+ */
+@Service
+public class JwtTokenService implements TokenService, MeterBinder {
+
+    private static final String INVALID_TOKEN = "El token de acceso no es válido";
+
+    private static final String USER_ID_CLAIM = "uid";
+
+    private static final String TOKEN_VERSION_CLAIM = "ver";
+
+    private final JwtKeyRing keyRing;
+
+    private final TokenRevocationList revocationList;
+
+    private final JwtParser parser;
+
+    private final Duration expiration;
+
+    private final Cache<String, TokenClaimsDto> verifiedTokens;
+
+    /**
+     * Constructor de JwtTokenService.
+     *
+     * @param keyRing Conjunto de claves de firma.
+     * @param revocationList Lista de tokens revocados.
+     * @param properties Propiedades de vigencia de los tokens y tamaño de la caché de verificación.
+     */
+    public JwtTokenService(JwtKeyRing keyRing, TokenRevocationList revocationList, JwtProperties properties) {
+        this.keyRing = keyRing;
+        this.revocationList = revocationList;
+        this.expiration = Duration.ofSeconds(properties.getExpirationSeconds());
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        Key key = keyRing.resolve(header.getKeyId());
+                        if (key == null) {
+                            throw new InvalidTokenException(INVALID_TOKEN);
+                        }
+                        return key;
+                    }
+                })
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(properties.getVerifiedCacheMaxEntries())
+                .expireAfterWrite(expiration)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Publica las estadísticas de la caché de tokens verificados en el registro de métricas.
+     *
+     * @param registry registro de métricas.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, verifiedTokens, "verifiedTokens");
+    }
+
+    /**
+     * Genera un token JWT para el usuario.
+     *
+     * @param userId El ID del usuario.
+     * @param email El correo del usuario.
+     * @param tokenVersion La versión actual de los tokens del usuario.
+     * @return El token JWT generado.
+     */
+    @Override
+    public String generateToken(UUID userId, String email, int tokenVersion) {
+        Instant now = Instant.now();
+        return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, keyRing.activeKeyId())
+                .setSubject(email)
+                .setId(UUID.randomUUID().toString())
+                .claim(USER_ID_CLAIM, userId != null ? userId.toString() : null)
+                .claim(TOKEN_VERSION_CLAIM, tokenVersion)
+                .setIssuedAt(Date.from(now))
+                .setExpiration(Date.from(now.plus(expiration)))
+                .signWith(keyRing.activeKey(), SignatureAlgorithm.HS512)
+                .compact();
+    }
+
+    /**
+     * Verifica un token JWT. La firma solo se calcula la primera vez que se recibe cada token;
+     * la expiración y la revocación se comprueban en cada llamada.
+     *
+     * @param token El token JWT recibido.
+     * @return Los datos del token verificado.
+     * @throws InvalidTokenException Si el token no es válido, expiró o fue revocado.
+     */
+    @Override
+    public TokenClaimsDto verifyToken(String token) {
+        TokenClaimsDto claims = verifiedTokens.get(token, this::parse);
+        if (claims.getExpiresAt() != null && !claims.getExpiresAt().isAfter(Instant.now())) {
+            verifiedTokens.invalidate(token);
+            throw new InvalidTokenException("El token de acceso expiró");
+        }
+        if (revocationList.isRevoked(claims)) {
+            throw new InvalidTokenException("El token de acceso fue revocado");
+        }
+        return claims;
+    }
+
+    private TokenClaimsDto parse(String token) {
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            String userId = claims.get(USER_ID_CLAIM, String.class);
+            Integer tokenVersion = claims.get(TOKEN_VERSION_CLAIM, Integer.class);
+            return new TokenClaimsDto(claims.getSubject(), claims.getId(),
+                    userId != null ? UUID.fromString(userId) : null, tokenVersion != null ? tokenVersion : 0,
+                    toInstant(claims.getIssuedAt()), toInstant(claims.getExpiration()));
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new InvalidTokenException(INVALID_TOKEN);
+        }
+    }
+
+    private static Instant toInstant(Date date) {
+        return date == null ? null : date.toInstant();
+    }
+}
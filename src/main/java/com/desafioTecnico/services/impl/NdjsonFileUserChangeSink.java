@@ -0,0 +1,57 @@
+package com.desafioTecnico.services.impl;
+
+import com.desafioTecnico.dtos.UserChangeDto;
+import com.desafioTecnico.services.UserChangeSink;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Destino de cambios que agrega cada cambio como una línea JSON al final de un archivo NDJSON
+ * ({@code user.outbox.sink=ndjson}). Sirve como registro de auditoría o como entrada de un proceso externo
+ * que lea el archivo; cada lote se escribe con una sola apertura del archivo.
+ */
+@Service
+@ConditionalOnProperty(name = "user.outbox.sink", havingValue = "ndjson")
+public class NdjsonFileUserChangeSink implements UserChangeSink {
+
+    private final ObjectMapper objectMapper;
+
+    private final Path path;
+
+    /**
+     * Constructor de NdjsonFileUserChangeSink.
+     *
+     * @param objectMapper mapeador JSON utilizado para serializar los cambios.
+     * @param path ruta del archivo NDJSON.
+     */
+    public NdjsonFileUserChangeSink(ObjectMapper objectMapper,
+                                    @Value("${user.outbox.ndjson.path:user-changes.ndjson}") String path) {
+        this.objectMapper = objectMapper;
+        this.path = Paths.get(path);
+    }
+
+    @Override
+    public synchronized void publish(List<UserChangeDto> changes) {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (UserChangeDto change : changes) {
+                writer.write(objectMapper.writeValueAsString(change));
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.desafioTecnico.services.impl;
+
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+/**
+ * Identifica las violaciones del índice único {@code uk_users_active_email} de {@code database.sql}, que exige
+ * que el correo no se repita entre los usuarios no eliminados.
+ */
+final class UniqueEmailConstraint {
+
+    static final String NAME = "uk_users_active_email";
+
+    private UniqueEmailConstraint() {
+    }
+
+    /**
+     * Indica si la excepción se debe a un correo ya registrado. El nombre del índice se busca en los mensajes
+     * de toda la cadena de causas, donde lo incluyen tanto Hibernate como el controlador JDBC.
+     *
+     * @param e la excepción de integridad.
+     * @return {@code true} si la restricción violada es la unicidad del correo.
+     */
+    static boolean isViolatedBy(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            String message = cause.getMessage();
+            if (message != null && message.toLowerCase(Locale.ROOT).contains(NAME)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
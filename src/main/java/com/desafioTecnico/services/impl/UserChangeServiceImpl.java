@@ -0,0 +1,240 @@
+package com.desafioTecnico.services.impl;
+
+import com.desafioTecnico.dtos.UserChangeDto;
+import com.desafioTecnico.dtos.UserChangeFeedDto;
+import com.desafioTecnico.dtos.UserResponseDto;
+import com.desafioTecnico.exceptions.InvalidCursorException;
+import com.desafioTecnico.services.UserChangeService;
+import com.desafioTecnico.services.UserChangeSink;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementación del outbox transaccional de cambios de usuarios.
+ * <p>
+ * Los cambios se insertan en la tabla {@code user_changes} con la misma conexión JDBC que la transacción que
+ * modifica al usuario, por lo que solo se registran si esa transacción se confirma. Un relay periódico los lee
+ * en orden de inserción, los publica en el {@link UserChangeSink} configurado y les asigna una posición
+ * consecutiva ({@code published_seq}) en la misma transacción. El flujo de cambios que consultan los clientes
+ * solo incluye cambios publicados, por lo que su orden no depende del orden en que se confirmaron las
+ * transacciones de origen. El relay está pensado para una sola instancia de la aplicación.
+ */
+@Service
+public class UserChangeServiceImpl implements UserChangeService {
+
+    private static final String INSERT_CHANGE = "INSERT INTO user_changes (user_id, change_type, occurred_at, payload) " +
+            "VALUES (?, ?, ?, ?)";
+
+    private static final String SELECT_PENDING = "SELECT id, user_id, change_type, occurred_at, payload " +
+            "FROM user_changes WHERE published_seq IS NULL ORDER BY id LIMIT ?";
+
+    private static final String SELECT_LAST_SEQ = "SELECT COALESCE(MAX(published_seq), 0) FROM user_changes";
+
+    private static final String MARK_PUBLISHED = "UPDATE user_changes SET published_seq = ? WHERE id = ?";
+
+    private static final String SELECT_PUBLISHED = "SELECT published_seq, user_id, change_type, occurred_at, payload " +
+            "FROM user_changes WHERE published_seq > ? ORDER BY published_seq LIMIT ?";
+
+    private static final String DELETE_PUBLISHED_BEFORE = "DELETE FROM user_changes " +
+            "WHERE published_seq IS NOT NULL AND occurred_at < ?";
+
+    private static final Logger log = LoggerFactory.getLogger(UserChangeServiceImpl.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final UserChangeSink sink;
+
+    private final int relayBatchSize;
+
+    private final long retentionHours;
+
+    @Value("${user.page.default-size:50}")
+    private int defaultPageSize;
+
+    @Value("${user.page.max-size:500}")
+    private int maxPageSize;
+
+    /**
+     * Constructor de UserChangeServiceImpl.
+     *
+     * @param jdbcTemplate Plantilla JDBC utilizada para escribir y leer la tabla {@code user_changes}.
+     * @param transactionManager Gestor de transacciones utilizado por el relay.
+     * @param objectMapper Mapeador JSON utilizado para serializar el estado de los usuarios.
+     * @param sink Destino en el que el relay publica los cambios.
+     * @param relayBatchSize Cantidad de cambios publicados por transacción del relay.
+     * @param retentionHours Horas que se conservan los cambios publicados antes de eliminarse.
+     */
+    public UserChangeServiceImpl(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                 ObjectMapper objectMapper, UserChangeSink sink,
+                                 @Value("${user.outbox.relay-batch-size:500}") int relayBatchSize,
+                                 @Value("${user.outbox.retention-hours:168}") long retentionHours) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.sink = sink;
+        this.relayBatchSize = relayBatchSize;
+        this.retentionHours = retentionHours;
+    }
+
+    @Override
+    public void recordChange(String type, UserResponseDto user) {
+        jdbcTemplate.update(INSERT_CHANGE, user.getId(), type, Timestamp.valueOf(LocalDateTime.now()), toJson(user));
+    }
+
+    @Override
+    public void recordChanges(String type, List<UserResponseDto> users) {
+        if (users.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(users.size());
+        for (UserResponseDto user : users) {
+            rows.add(new Object[]{user.getId(), type, now, toJson(user)});
+        }
+        jdbcTemplate.batchUpdate(INSERT_CHANGE, rows);
+    }
+
+    @Override
+    public void recordDeletion(UUID userId) {
+        jdbcTemplate.update(INSERT_CHANGE, userId, UserChangeDto.DELETED, Timestamp.valueOf(LocalDateTime.now()), null);
+    }
+
+    @Override
+    public void recordDeletions(List<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(userIds.size());
+        for (UUID userId : userIds) {
+            rows.add(new Object[]{userId, UserChangeDto.DELETED, now, null});
+        }
+        jdbcTemplate.batchUpdate(INSERT_CHANGE, rows);
+    }
+
+    /**
+     * Obtiene los cambios publicados posteriores a una posición, con una consulta por rango sobre el índice
+     * único de {@code published_seq}.
+     *
+     * @param since la posición del último cambio procesado por el consumidor, o 0 para empezar desde el inicio.
+     * @param limit cantidad máxima de cambios a devolver; se ajusta a los límites de paginación configurados.
+     * @return la página de cambios y la posición desde la que continuar.
+     * @throws InvalidCursorException si la posición es negativa.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public UserChangeFeedDto findChanges(long since, Integer limit) {
+        if (since < 0) {
+            throw new InvalidCursorException("La posición del flujo de cambios no es válida");
+        }
+        int pageSize = limit == null || limit < 1 ? defaultPageSize : Math.min(limit, maxPageSize);
+        List<UserChangeDto> changes = jdbcTemplate.query(SELECT_PUBLISHED, changeMapper("published_seq"),
+                since, pageSize);
+        long nextSince = changes.isEmpty() ? since : changes.get(changes.size() - 1).getSeq();
+        return new UserChangeFeedDto(changes, nextSince);
+    }
+
+    /**
+     * Publica los cambios pendientes en lotes de {@code user.outbox.relay-batch-size}, cada uno en su propia
+     * transacción, hasta que no quedan pendientes. Si la publicación de un lote falla, el lote queda pendiente
+     * y se reintenta en la siguiente ejecución.
+     *
+     * @return la cantidad de cambios publicados.
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${user.outbox.relay-interval-ms:500}")
+    public synchronized int relayPendingChanges() {
+        int relayed = 0;
+        int published;
+        do {
+            try {
+                Integer batch = transactionTemplate.execute(status -> relayBatch());
+                published = batch != null ? batch : 0;
+            } catch (RuntimeException e) {
+                log.warn("No se pudo publicar un lote de cambios de usuarios; se reintentará", e);
+                break;
+            }
+            relayed += published;
+        } while (published == relayBatchSize);
+        return relayed;
+    }
+
+    /**
+     * Elimina los cambios publicados más antiguos que {@code user.outbox.retention-hours}. Un consumidor que
+     * consulte una posición anterior continúa desde el cambio más antiguo que se conserva. La consulta usa el
+     * índice {@code idx_user_changes_occurred_at} de {@code database.sql}, por lo que no recorre toda la tabla.
+     */
+    @Scheduled(fixedDelayString = "${user.outbox.purge-interval-ms:3600000}")
+    public void purgePublishedChanges() {
+        Timestamp before = Timestamp.valueOf(LocalDateTime.now().minusHours(retentionHours));
+        int deleted = jdbcTemplate.update(DELETE_PUBLISHED_BEFORE, before);
+        if (deleted > 0) {
+            log.info("Se eliminaron {} cambios de usuarios publicados", deleted);
+        }
+    }
+
+    /**
+     * Publica un lote de cambios pendientes y les asigna posiciones consecutivas a continuación de la última.
+     *
+     * @return la cantidad de cambios publicados.
+     */
+    private int relayBatch() {
+        List<UserChangeDto> changes = jdbcTemplate.query(SELECT_PENDING, changeMapper("id"), relayBatchSize);
+        if (changes.isEmpty()) {
+            return 0;
+        }
+        Long lastSeq = jdbcTemplate.queryForObject(SELECT_LAST_SEQ, Long.class);
+        long seq = lastSeq != null ? lastSeq : 0;
+        List<Object[]> rows = new ArrayList<>(changes.size());
+        for (UserChangeDto change : changes) {
+            long id = change.getSeq();
+            change.setSeq(++seq);
+            rows.add(new Object[]{change.getSeq(), id});
+        }
+        sink.publish(changes);
+        jdbcTemplate.batchUpdate(MARK_PUBLISHED, rows);
+        return changes.size();
+    }
+
+    /**
+     * Crea el mapeador de filas de {@code user_changes}. La columna indicada se asigna a {@code seq}: la
+     * posición publicada en el flujo de cambios, o el ID de la fila mientras el cambio está pendiente.
+     *
+     * @param seqColumn columna que se asigna a {@code seq}.
+     * @return el mapeador de filas.
+     */
+    private static RowMapper<UserChangeDto> changeMapper(String seqColumn) {
+        return (rs, rowNum) -> new UserChangeDto(rs.getLong(seqColumn), rs.getObject("user_id", UUID.class),
+                rs.getString("change_type"), rs.getTimestamp("occurred_at").toLocalDateTime(),
+                rs.getString("payload"));
+    }
+
+    private String toJson(UserResponseDto user) {
+        try {
+            return objectMapper.writeValueAsString(user);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
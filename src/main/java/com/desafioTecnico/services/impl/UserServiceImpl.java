@@ -1,82 +1,217 @@
 package com.desafioTecnico.services.impl;
 
+import com.desafioTecnico.components.EmailIndex;
+import com.desafioTecnico.components.LastLoginWriter;
+import com.desafioTecnico.components.LoginRateLimiter;
+import com.desafioTecnico.components.SingleFlight;
+import com.desafioTecnico.components.TokenRevocationList;
+import com.desafioTecnico.components.UserResponseCache;
+import com.desafioTecnico.components.VerifiedCredentialCache;
+import com.desafioTecnico.dtos.BulkDeleteResultDto;
+import com.desafioTecnico.dtos.CacheStatsDto;
+import com.desafioTecnico.dtos.CursorPageDto;
+import com.desafioTecnico.dtos.LoginRequestDto;
+import com.desafioTecnico.dtos.LoginResponseDto;
+import com.desafioTecnico.dtos.PhoneDto;
+import com.desafioTecnico.dtos.PhoneResponseDto;
+import com.desafioTecnico.dtos.SerializedUserDto;
+import com.desafioTecnico.dtos.TokenClaimsDto;
+import com.desafioTecnico.dtos.UserChangeDto;
 import com.desafioTecnico.dtos.UserRequestDto;
+import com.desafioTecnico.dtos.UserResponseDto;
+import com.desafioTecnico.dtos.UserSearchCriteriaDto;
 import com.desafioTecnico.exceptions.EmailValidationException;
+import com.desafioTecnico.exceptions.InvalidCredentialsException;
+import com.desafioTecnico.exceptions.InvalidCursorException;
+import com.desafioTecnico.exceptions.InvalidPatchException;
 import com.desafioTecnico.exceptions.PasswordValidationException;
 import com.desafioTecnico.exceptions.UserNotFoundException;
 import com.desafioTecnico.models.Phone;
 import com.desafioTecnico.models.User;
+import com.desafioTecnico.repositories.UserCredentialsView;
+import com.desafioTecnico.repositories.UserPhoneView;
 import com.desafioTecnico.repositories.UserRepository;
+import com.desafioTecnico.services.PasswordHashService;
+import com.desafioTecnico.services.TokenService;
+import com.desafioTecnico.services.UserChangeService;
 import com.desafioTecnico.services.UserService;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
-import org.mindrot.jbcrypt.BCrypt;
+import com.desafioTecnico.validators.Validator;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import javax.crypto.SecretKey;
-import javax.transaction.Transactional;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
-import java.util.Date;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.UUID;
-import java.util.regex.Pattern;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementación del servicio de usuario que gestiona el registro y la validación de usuarios.
  * Proporciona métodos para registrar nuevos usuarios, buscar, actualizar y eliminar usuarios.
+ * Las altas, modificaciones y eliminaciones se registran en el outbox de cambios ({@link UserChangeService})
+ * dentro de la misma transacción.
  */
 @Service
 public class UserServiceImpl implements UserService {
 
+    private static final int STREAM_BATCH_SIZE = 500;
+
+    private static final int DELETE_BATCH_SIZE = 1000;
+
+    private static final String INVALID_CREDENTIALS = "Correo o contraseña incorrectos";
+
     private final UserRepository userRepository;
 
-    @Value("${user.password.regex}")
-    private String passwordRegex;
+    private final PasswordHashService passwordHashService;
+
+    private final TokenService tokenService;
+
+    private final LoginRateLimiter loginRateLimiter;
+
+    private final VerifiedCredentialCache verifiedCredentialCache;
+
+    private final EmailIndex emailIndex;
+
+    private final UserResponseCache userResponseCache;
+
+    private final TokenRevocationList tokenRevocationList;
+
+    private final LastLoginWriter lastLoginWriter;
+
+    private final UserChangeService userChangeService;
+
+    private final Validator<String> emailValidator;
 
-    @Value("${user.email.regex}")
-    private String emailRegex;
+    private final Validator<String> passwordValidator;
 
-    private final SecretKey secretKey = Keys.secretKeyFor(SignatureAlgorithm.HS512);
+    private final Timer validationTimer;
+
+    private final Timer hashTimer;
+
+    private final Timer tokenTimer;
+
+    private final Timer persistTimer;
+
+    private final SingleFlight<UUID, SerializedUserDto> userLookups;
+
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${user.page.default-size:50}")
+    private int defaultPageSize;
+
+    @Value("${user.page.max-size:500}")
+    private int maxPageSize;
 
     /**
      * Constructor de UserServiceImpl.
      *
      * @param userRepository Repositorio de usuarios utilizado para acceder a los datos de los usuarios.
+     * @param passwordHashService Servicio utilizado para cifrar las contraseñas en un pool de hilos dedicado.
+     * @param tokenService Servicio utilizado para emitir los tokens de acceso.
+     * @param loginRateLimiter Limitador de intentos de inicio de sesión por correo y dirección IP.
+     * @param verifiedCredentialCache Caché de credenciales verificadas recientemente.
+     * @param emailIndex Índice en memoria de los correos registrados.
+     * @param userResponseCache Caché de las respuestas JSON de usuarios.
+     * @param tokenRevocationList Lista de tokens revocados.
+     * @param lastLoginWriter Escritura diferida de la fecha de último acceso.
+     * @param userChangeService Outbox en el que se registran los cambios de usuarios.
+     * @param emailValidator Cadena de validación del formato de correo.
+     * @param passwordValidator Cadena de validación de la política de contraseñas.
+     * @param meterRegistry Registro de métricas donde se publican los tiempos de cada etapa del registro.
+     * @param transactionManager Gestor de transacciones de las escrituras y de las cargas de la caché de respuestas.
      */
-    public UserServiceImpl(UserRepository userRepository) {
+    public UserServiceImpl(UserRepository userRepository, PasswordHashService passwordHashService,
+                           TokenService tokenService, LoginRateLimiter loginRateLimiter,
+                           VerifiedCredentialCache verifiedCredentialCache, EmailIndex emailIndex,
+                           UserResponseCache userResponseCache, TokenRevocationList tokenRevocationList,
+                           LastLoginWriter lastLoginWriter, UserChangeService userChangeService,
+                           @Qualifier("emailValidatorChain") Validator<String> emailValidator,
+                           @Qualifier("passwordValidatorChain") Validator<String> passwordValidator,
+                           MeterRegistry meterRegistry, PlatformTransactionManager transactionManager) {
         this.userRepository = userRepository;
+        this.passwordHashService = passwordHashService;
+        this.tokenService = tokenService;
+        this.loginRateLimiter = loginRateLimiter;
+        this.verifiedCredentialCache = verifiedCredentialCache;
+        this.emailIndex = emailIndex;
+        this.userResponseCache = userResponseCache;
+        this.tokenRevocationList = tokenRevocationList;
+        this.lastLoginWriter = lastLoginWriter;
+        this.userChangeService = userChangeService;
+        this.emailValidator = emailValidator;
+        this.passwordValidator = passwordValidator;
+        this.validationTimer = registrationStageTimer(meterRegistry, "validation");
+        this.hashTimer = registrationStageTimer(meterRegistry, "hash");
+        this.tokenTimer = registrationStageTimer(meterRegistry, "token");
+        this.persistTimer = registrationStageTimer(meterRegistry, "persist");
+        this.userLookups = new SingleFlight<>("user.lookup", "Lecturas de usuarios por ID que no estaban en la caché",
+                meterRegistry);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Crea el temporizador de una etapa del registro de usuarios ({@code user.registration}).
+     *
+     * @param meterRegistry Registro de métricas.
+     * @param stage Nombre de la etapa.
+     * @return El temporizador de la etapa.
+     */
+    private static Timer registrationStageTimer(MeterRegistry meterRegistry, String stage) {
+        return Timer.builder("user.registration")
+                .description("Tiempo de cada etapa del registro de usuarios")
+                .tag("stage", stage)
+                .register(meterRegistry);
     }
 
     /**
-     * Registra un nuevo usuario en el sistema.
+     * Registra un nuevo usuario en el sistema. La validación y el cálculo del hash se hacen antes de abrir la
+     * transacción, para que la espera en el pool de BCrypt no retenga una conexión de la base de datos.
      *
      * @param userRequestDto DTO que contiene la información del usuario a registrar.
      * @return El usuario registrado con la información correspondiente.
      * @throws EmailValidationException Si el correo ya está registrado en el sistema.
      * @throws PasswordValidationException Si la contraseña no cumple con los requisitos de seguridad.
+     * @throws com.desafioTecnico.exceptions.ServiceBusyException Si el pool de cifrado de contraseñas está saturado.
      */
     @Override
-    @Transactional
     public User registerUser(UserRequestDto userRequestDto) {
 
-        validateEmail(userRequestDto.getEmail());
-        validatePassword(userRequestDto.getPassword());
+        validationTimer.record(() -> {
+            validateEmail(userRequestDto.getEmail());
+            validatePassword(userRequestDto.getPassword());
+        });
+
+        if (userRequestDto.getPhones() == null || userRequestDto.getPhones().isEmpty()) {
+            throw new IllegalArgumentException("Debe proporcionar al menos un número de teléfono");
+        }
 
         User user = new User();
         user.setName(userRequestDto.getName());
         user.setEmail(userRequestDto.getEmail());
 
-        String hashedPassword = BCrypt.hashpw(userRequestDto.getPassword(), BCrypt.gensalt());
+        String hashedPassword = hashTimer.record(() -> passwordHashService.hash(userRequestDto.getPassword()));
         user.setPassword(hashedPassword);
 
-        if (userRequestDto.getPhones() == null || userRequestDto.getPhones().isEmpty()) {
-            throw new IllegalArgumentException("Debe proporcionar al menos un número de teléfono");
-        }
-
         List<Phone> phones = userRequestDto.getPhones().stream()
                 .map(phoneDto -> {
                     Phone phone = new Phone();
@@ -91,55 +226,101 @@ public class UserServiceImpl implements UserService {
         user.setLastLogin(LocalDateTime.now());
         user.setIsActive(true);
 
-        String token = generateToken(user.getEmail());
-        user.setToken(token);
-
-        return userRepository.save(user);
+        User savedUser = persistTimer.record(() -> transactionTemplate.execute(status -> {
+            User saved = saveAndCheckEmail(user);
+            userChangeService.recordChange(UserChangeDto.CREATED, UserResponseDto.from(saved));
+            return saved;
+        }));
+        savedUser.setToken(tokenTimer.record(() -> tokenService.generateToken(savedUser.getId(),
+                savedUser.getEmail(), savedUser.getTokenVersion())));
+        emailIndex.add(savedUser.getEmail());
+        return savedUser;
     }
 
     /**
-     * Valida la contraseña de acuerdo a una expresión regular.
+     * Valida la contraseña con la cadena de validación configurada.
      *
      * @param password La contraseña a validar.
      * @throws PasswordValidationException Si la contraseña no cumple con los requisitos.
      */
     private void validatePassword(String password) {
-        if (!Pattern.matches(passwordRegex, password)) {
-            throw new PasswordValidationException("La contraseña debe tener al menos 8 caracteres, " +
-                    "incluir al menos una letra mayúscula, una letra minúscula, " +
-                    "un número y un carácter especial.");
-        }
+        passwordValidator.validate(password);
     }
 
     /**
-     * Valida si el correo tiene un formato válido.
+     * Valida si el correo tiene un formato válido y no está registrado.
+     * El índice en memoria descarta sin consultar la base de datos los correos que con seguridad no están
+     * registrados; solo los posibles duplicados se confirman con una consulta de existencia.
      *
      * @param email El correo a validar.
-     * @throws EmailValidationException Si el formato del correo no es válido.
+     * @throws EmailValidationException Si el formato del correo no es válido o ya está registrado.
      */
     private void validateEmail(String email) {
-        if (!Pattern.matches(emailRegex, email)) {
-            throw new EmailValidationException("El correo no tiene un formato válido.");
-        }
-        Optional<User> existingUser = userRepository.findByEmail(email);
-        if (existingUser.isPresent()) {
+        emailValidator.validate(email);
+        if (emailIndex.mightContain(email) && userRepository.existsByEmail(email)) {
             throw new EmailValidationException("El correo ya registrado");
         }
     }
 
     /**
-     * Genera un token JWT para el usuario.
+     * Guarda el usuario y envía los cambios a la base de datos de inmediato, para que un correo ya registrado
+     * se informe como {@link EmailValidationException}. {@link #validateEmail(String)} no detecta todos los
+     * duplicados: el índice en memoria es propio de cada nodo y se actualiza después de la inserción, por lo que
+     * dos registros concurrentes del mismo correo pueden superar la validación y solo el índice único
+     * {@code uk_users_active_email} rechaza al segundo.
+     *
+     * @param user El usuario a guardar.
+     * @return El usuario guardado.
+     * @throws EmailValidationException Si el correo ya está registrado en el sistema.
+     */
+    private User saveAndCheckEmail(User user) {
+        try {
+            User savedUser = userRepository.save(user);
+            userRepository.flush();
+            return savedUser;
+        } catch (DataIntegrityViolationException e) {
+            if (UniqueEmailConstraint.isViolatedBy(e)) {
+                throw new EmailValidationException("El correo ya registrado");
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Autentica a un usuario. El limitador de intentos se consulta antes de cualquier verificación BCrypt,
+     * y las contraseñas verificadas recientemente se aceptan desde la caché sin repetir el hash.
+     * La fecha de último acceso se escribe en diferido y por lotes con {@link LastLoginWriter}, por lo que puede
+     * tardar hasta un intervalo de escritura en verse en las consultas; el token emitido no se almacena.
      *
-     * @param email El correo del usuario.
-     * @return El token JWT generado.
+     * @param loginRequestDto DTO con el correo y la contraseña.
+     * @param clientIp        Dirección IP del cliente.
+     * @return Los datos del inicio de sesión, incluido el nuevo token.
+     * @throws InvalidCredentialsException Si el correo no existe, la contraseña es incorrecta o el usuario está inactivo.
      */
-    private String generateToken(String email) {
-        return Jwts.builder()
-                .setSubject(email)
-                .setId(UUID.randomUUID().toString())
-                .setIssuedAt(new Date())
-                .signWith(secretKey)
-                .compact();
+    @Override
+    public LoginResponseDto login(LoginRequestDto loginRequestDto, String clientIp) {
+        String email = loginRequestDto.getEmail();
+        String rawPassword = loginRequestDto.getPassword();
+        loginRateLimiter.acquire(email, clientIp);
+
+        UserCredentialsView credentials = userRepository.findCredentialsByEmail(email)
+                .orElseThrow(() -> new InvalidCredentialsException(INVALID_CREDENTIALS));
+
+        if (!verifiedCredentialCache.isVerified(email, rawPassword, credentials.getPassword())) {
+            if (!passwordHashService.matches(rawPassword, credentials.getPassword())) {
+                throw new InvalidCredentialsException(INVALID_CREDENTIALS);
+            }
+            verifiedCredentialCache.markVerified(email, rawPassword, credentials.getPassword());
+        }
+
+        if (!Boolean.TRUE.equals(credentials.getIsActive())) {
+            throw new InvalidCredentialsException("El usuario está inactivo");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        String token = tokenService.generateToken(credentials.getId(), email, credentials.getTokenVersion());
+        lastLoginWriter.record(credentials.getId(), now);
+        return new LoginResponseDto(credentials.getId(), token, now);
     }
 
     /**
@@ -147,90 +328,546 @@ public class UserServiceImpl implements UserService {
      *
      * @param id El ID del usuario a buscar.
      * @return El usuario encontrado.
-     * @throws RuntimeException Si el usuario no se encuentra.
+     * @throws UserNotFoundException Si el usuario no existe o fue eliminado.
      */
     @Override
+    @Transactional(readOnly = true)
     public User findById(UUID id) {
-        return userRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
+        return userRepository.findWithPhonesById(id)
+                .orElseThrow(() -> new UserNotFoundException("Usuario no encontrado con ID: " + id));
+    }
+
+    /**
+     * Obtiene la respuesta JSON de un usuario por su ID. Los aciertos de la caché se devuelven sin consultar
+     * la base de datos ni serializar; los fallos cargan el usuario con {@link #findById(UUID)} y lo convierten
+     * en un {@link UserResponseDto}. Los fallos concurrentes para un mismo ID se agrupan en una sola carga cuyo
+     * resultado comparten; la proporción de lecturas agrupadas se publica en la métrica {@code user.lookup}.
+     * <p>
+     * La carga se ejecuta en una transacción de lectura y escritura, por lo que usa la base de datos principal
+     * aunque las lecturas se envíen a la réplica: la caché se invalida al confirmar cada cambio en la principal,
+     * y una réplica atrasada almacenaría la versión anterior hasta la siguiente invalidación.
+     *
+     * @param id El ID del usuario a buscar.
+     * @return La representación JSON del usuario junto con su ETag.
+     * @throws UserNotFoundException Si el usuario no existe o fue eliminado.
+     */
+    @Override
+    public SerializedUserDto findSerializedById(UUID id) {
+        SerializedUserDto cached = userResponseCache.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+        return userLookups.execute(id, () -> userResponseCache.load(id, key -> transactionTemplate.execute(
+                status -> UserResponseDto.from(findById(key)))));
+    }
+
+    /**
+     * Obtiene las métricas de la caché de respuestas de usuarios.
+     *
+     * @return Los aciertos, fallos y desalojos de la caché.
+     */
+    @Override
+    public CacheStatsDto getResponseCacheStats() {
+        return userResponseCache.stats();
+    }
+
+    /**
+     * Obtiene una página de usuarios usando paginación keyset sobre la fecha de creación y el ID.
+     * Se solicita un elemento adicional para saber si existe una página siguiente sin ejecutar un conteo,
+     * y los teléfonos de toda la página se cargan con una sola consulta adicional.
+     *
+     * @param cursor cursor devuelto por la página anterior, o {@code null} para la primera página.
+     * @param size   cantidad de usuarios solicitada.
+     * @return la página de usuarios y el cursor de la siguiente página.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<UserResponseDto> findPage(String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<UserResponseDto> users;
+        if (cursor == null || cursor.isEmpty()) {
+            users = userRepository.findFirstPage(limit);
+        } else {
+            PageCursor pageCursor = decodeCursor(cursor);
+            users = userRepository.findPageAfter(pageCursor.created, pageCursor.id, limit);
+        }
+
+        String nextCursor = null;
+        if (users.size() > pageSize) {
+            users = users.subList(0, pageSize);
+            UserResponseDto last = users.get(pageSize - 1);
+            nextCursor = encodeCursor(last.getCreated(), last.getId());
+        }
+        attachPhones(users);
+        return new CursorPageDto<>(users, nextCursor);
+    }
+
+    /**
+     * Busca usuarios con los filtros indicados. Usa el mismo orden y el mismo formato de cursor que
+     * {@link #findPage(String, Integer)}; los teléfonos de la página se cargan con una sola consulta adicional.
+     *
+     * @param criteria filtros de la búsqueda.
+     * @param cursor   cursor devuelto por la página anterior, o {@code null} para la primera página.
+     * @param size     cantidad de usuarios solicitada.
+     * @return la página de usuarios encontrados y el cursor de la siguiente página.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<UserResponseDto> searchUsers(UserSearchCriteriaDto criteria, String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        PageCursor pageCursor = cursor == null || cursor.isEmpty() ? null : decodeCursor(cursor);
+
+        List<UserResponseDto> users = userRepository.search(criteria,
+                pageCursor != null ? pageCursor.created : null, pageCursor != null ? pageCursor.id : null,
+                pageSize + 1);
+
+        String nextCursor = null;
+        if (users.size() > pageSize) {
+            users = users.subList(0, pageSize);
+            UserResponseDto last = users.get(pageSize - 1);
+            nextCursor = encodeCursor(last.getCreated(), last.getId());
+        }
+        attachPhones(users);
+        return new CursorPageDto<>(users, nextCursor);
+    }
+
+    /**
+     * Sugiere correos registrados que empiezan por el prefijo indicado, con una consulta por rango sobre el
+     * índice de correos.
+     *
+     * @param prefix el prefijo escrito por el usuario.
+     * @param limit  cantidad máxima de sugerencias.
+     * @return los correos en orden alfabético.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<String> suggestEmails(String prefix, Integer limit) {
+        if (prefix == null || prefix.isEmpty()) {
+            return List.of();
+        }
+        return userRepository.findEmailsStartingWith(prefix, PageRequest.of(0, resolvePageSize(limit)));
     }
 
     /**
-     * Encuentra todos los usuarios registrados en el sistema.
+     * Recorre todos los usuarios con un cursor JDBC. Los usuarios se agrupan en lotes para cargar
+     * sus teléfonos con una consulta por lote, y cada lote se libera después de entregarlo al consumidor,
+     * por lo que el uso de memoria no crece con el tamaño de la tabla.
      *
-     * @return Una lista de todos los usuarios.
+     * @param consumer consumidor que recibe cada usuario.
      */
     @Override
-    public List<User> findAll() {
-        return userRepository.findAll();
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<UserResponseDto> consumer) {
+        try (Stream<UserResponseDto> users = userRepository.streamAllOrdered()) {
+            List<UserResponseDto> batch = new ArrayList<>(STREAM_BATCH_SIZE);
+            users.forEach(user -> {
+                batch.add(user);
+                if (batch.size() == STREAM_BATCH_SIZE) {
+                    attachPhones(batch);
+                    batch.forEach(consumer);
+                    batch.clear();
+                }
+            });
+            attachPhones(batch);
+            batch.forEach(consumer);
+        }
     }
 
     /**
-     * Actualiza la información de un usuario existente.
+     * Asigna los teléfonos a un lote de usuarios utilizando una única consulta {@code IN}.
+     *
+     * @param users usuarios a los que se les asignarán sus teléfonos.
+     */
+    private void attachPhones(List<UserResponseDto> users) {
+        if (users.isEmpty()) {
+            return;
+        }
+        Map<UUID, UserResponseDto> usersById = new HashMap<>();
+        users.forEach(user -> usersById.put(user.getId(), user));
+
+        for (UserPhoneView phone : userRepository.findPhonesByUserIds(usersById.keySet())) {
+            usersById.get(phone.getUserId()).getPhones()
+                    .add(new PhoneResponseDto(phone.getNumber(), phone.getCityCode(), phone.getContryCode()));
+        }
+    }
+
+    /**
+     * Ajusta el tamaño de página solicitado a los límites configurados.
+     *
+     * @param size tamaño solicitado, puede ser nulo.
+     * @return el tamaño de página a utilizar.
+     */
+    private int resolvePageSize(Integer size) {
+        if (size == null || size < 1) {
+            return defaultPageSize;
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    /**
+     * Codifica la posición de un usuario como un cursor opaco.
+     *
+     * @param created fecha de creación del último usuario de la página.
+     * @param id      ID del último usuario de la página.
+     * @return el cursor codificado en Base64 URL.
+     */
+    private String encodeCursor(LocalDateTime created, UUID id) {
+        String raw = created + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica un cursor generado por {@link #encodeCursor(LocalDateTime, UUID)}.
+     *
+     * @param cursor el cursor recibido del cliente.
+     * @return la posición representada por el cursor.
+     * @throws InvalidCursorException si el cursor no tiene el formato esperado.
+     */
+    private PageCursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            if (separator < 0) {
+                throw new InvalidCursorException("El cursor de paginación no es válido");
+            }
+            return new PageCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("El cursor de paginación no es válido");
+        }
+    }
+
+    /**
+     * Posición de un usuario dentro del orden de paginación.
+     */
+    private static final class PageCursor {
+        private final LocalDateTime created;
+        private final UUID id;
+
+        private PageCursor(LocalDateTime created, UUID id) {
+            this.created = created;
+            this.id = id;
+        }
+    }
+
+    /**
+     * Actualiza la información de un usuario existente. La nueva contraseña, si se envía, se valida y se cifra
+     * antes de abrir la transacción, para no retener una conexión mientras se espera por BCrypt.
      *
      * @param id              El ID del usuario a actualizar.
      * @param userRequestDto  DTO que contiene la nueva información del usuario.
+     * @param ifMatch         ETag opcional leído por el cliente; si no corresponde a la versión actual, no se
+     *                        modifica nada.
      * @return El usuario actualizado.
+     * @throws EmailValidationException Si el nuevo correo ya está registrado.
+     * @throws ObjectOptimisticLockingFailureException Si el usuario cambió después de que el cliente lo leyera.
      */
     @Override
-    @Transactional
-    public User updateUser(UUID id, UserRequestDto userRequestDto) {
-        User user = userRepository.findById(id)
-                .orElseThrow(() -> new UserNotFoundException("Usuario no encontrado con ID: " + id));
-
-        if (userRequestDto.getName() != null && !userRequestDto.getName().isEmpty()) {
-            user.setName(userRequestDto.getName());
-        }
+    public User updateUser(UUID id, UserRequestDto userRequestDto, String ifMatch) {
+        String rawPassword = userRequestDto.getPassword();
+        String hashedPassword = rawPassword != null && !rawPassword.isEmpty() ? hashPassword(rawPassword) : null;
+
+        return transactionTemplate.execute(status -> {
+            User user = userRepository.findById(id)
+                    .orElseThrow(() -> new UserNotFoundException("Usuario no encontrado con ID: " + id));
+            checkVersion(user, ifMatch);
+
+            if (userRequestDto.getName() != null && !userRequestDto.getName().isEmpty()) {
+                user.setName(userRequestDto.getName());
+            }
+
+            changeEmail(user, userRequestDto.getEmail());
+
+            if (hashedPassword != null) {
+                changePassword(user, hashedPassword);
+            }
+
+            if (userRequestDto.getActive() != null) {
+                user.setIsActive(userRequestDto.getActive());
+            }
+
+            if (userRequestDto.getPhones() != null) {
+                applyPhones(user, userRequestDto.getPhones());
+            }
+
+            user.setModified(LocalDateTime.now());
+            userResponseCache.invalidate(id);
+            User savedUser = saveAndCheckEmail(user);
+            userChangeService.recordChange(UserChangeDto.UPDATED, UserResponseDto.from(savedUser));
+            return savedUser;
+        });
+    }
 
-        if (!userRequestDto.getEmail().equals(user.getEmail())) {
-            validateEmail(userRequestDto.getEmail());
-            user.setEmail(userRequestDto.getEmail());
+    /**
+     * Aplica una actualización parcial con semántica JSON Merge Patch (RFC 7386): solo se modifican los campos
+     * presentes en el documento y la lista de teléfonos, si se envía, reemplaza a la actual. Gracias a
+     * {@code @DynamicUpdate} solo se escriben las columnas modificadas, y el {@code @Version} de la entidad
+     * rechaza la escritura si otra solicitud modificó al usuario después de leerlo. Con {@code If-Match} el
+     * cliente extiende esa comprobación a la versión que leyó antes de enviar el documento. Una nueva
+     * contraseña se valida y se cifra antes de abrir la transacción.
+     *
+     * @param id      El ID del usuario a actualizar.
+     * @param patch   Documento JSON Merge Patch con los campos a modificar.
+     * @param ifMatch ETag opcional leído por el cliente.
+     * @return El usuario actualizado.
+     * @throws InvalidPatchException Si el documento contiene campos desconocidos o valores inválidos.
+     * @throws UserNotFoundException Si el usuario no existe.
+     * @throws EmailValidationException Si el nuevo correo ya está registrado.
+     * @throws ObjectOptimisticLockingFailureException Si el usuario cambió después de que el cliente lo leyera.
+     */
+    @Override
+    public User patchUser(UUID id, JsonNode patch, String ifMatch) {
+        if (patch == null || !patch.isObject()) {
+            throw new InvalidPatchException("El documento de cambios debe ser un objeto JSON");
         }
+        JsonNode password = patch.get("password");
+        String hashedPassword = password != null ? hashPassword(requireText("password", password)) : null;
+
+        return transactionTemplate.execute(status -> {
+            User user = userRepository.findWithPhonesById(id)
+                    .orElseThrow(() -> new UserNotFoundException("Usuario no encontrado con ID: " + id));
+            checkVersion(user, ifMatch);
+            if (patch.size() == 0) {
+                return user;
+            }
+
+            Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                JsonNode value = field.getValue();
+                switch (field.getKey()) {
+                    case "name":
+                        user.setName(requireText(field.getKey(), value));
+                        break;
+                    case "email":
+                        changeEmail(user, requireText(field.getKey(), value));
+                        break;
+                    case "password":
+                        changePassword(user, hashedPassword);
+                        break;
+                    case "active":
+                        if (!value.isBoolean()) {
+                            throw new InvalidPatchException("El campo 'active' debe ser verdadero o falso");
+                        }
+                        user.setIsActive(value.booleanValue());
+                        break;
+                    case "phones":
+                        applyPhones(user, readPhones(value));
+                        break;
+                    default:
+                        throw new InvalidPatchException("El campo '" + field.getKey() + "' no se puede modificar");
+                }
+            }
+
+            user.setModified(LocalDateTime.now());
+            userResponseCache.invalidate(id);
+            User savedUser = saveAndCheckEmail(user);
+            userChangeService.recordChange(UserChangeDto.UPDATED, UserResponseDto.from(savedUser));
+            return savedUser;
+        });
+    }
 
-        if (userRequestDto.getPassword() != null && !userRequestDto.getPassword().isEmpty()) {
-            validatePassword(userRequestDto.getPassword());
-            String hashedPassword = BCrypt.hashpw(userRequestDto.getPassword(), BCrypt.gensalt());
-            user.setPassword(hashedPassword);
+    /**
+     * Rechaza la modificación si el ETag enviado por el cliente no corresponde a la versión actual del usuario.
+     * La excepción es la misma que lanza {@code @Version}, por lo que se responde con un código 409.
+     *
+     * @param user    El usuario recién leído.
+     * @param ifMatch El valor de la cabecera {@code If-Match}, o {@code null} si no se envió.
+     */
+    private static void checkVersion(User user, String ifMatch) {
+        if (ifMatch != null && !UserResponseCache.matchesVersion(ifMatch, user.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(User.class, user.getId());
         }
+    }
 
-        if (userRequestDto.getActive() != null) {
-            user.setIsActive(userRequestDto.getActive());
+    /**
+     * Cambia el correo del usuario si es distinto del actual, validando que no esté registrado.
+     *
+     * @param user  El usuario a modificar.
+     * @param email El nuevo correo.
+     */
+    private void changeEmail(User user, String email) {
+        if (email.equals(user.getEmail())) {
+            return;
         }
+        validateEmail(email);
+        user.setEmail(email);
+        emailIndex.add(email);
+        emailIndex.recordRemoval();
+    }
 
-        user.setCreated(user.getCreated());
-        user.setModified(LocalDateTime.now());
-        user.setLastLogin(user.getLastLogin());
+    /**
+     * Valida una nueva contraseña y calcula su hash. Se invoca fuera de la transacción, para que la espera en el
+     * pool de BCrypt no retenga una conexión de la base de datos.
+     *
+     * @param rawPassword La nueva contraseña en texto plano.
+     * @return El hash de la contraseña.
+     * @throws PasswordValidationException Si la contraseña no cumple con los requisitos.
+     */
+    private String hashPassword(String rawPassword) {
+        validatePassword(rawPassword);
+        return passwordHashService.hash(rawPassword);
+    }
 
-        if (userRequestDto.getPhones() != null) {
-            List<Phone> existingPhones = user.getPhones();
+    /**
+     * Cambia la contraseña del usuario y revoca todos sus tokens emitidos.
+     *
+     * @param user           El usuario a modificar.
+     * @param hashedPassword El hash de la nueva contraseña, calculado con {@link #hashPassword(String)}.
+     */
+    private void changePassword(User user, String hashedPassword) {
+        user.setPassword(hashedPassword);
+        verifiedCredentialCache.invalidate(user.getEmail());
+        user.setTokenVersion(user.getTokenVersion() + 1);
+        tokenRevocationList.raiseMinimumVersion(user.getId(), user.getTokenVersion());
+    }
 
-            List<Phone> updatedPhones = userRequestDto.getPhones().stream()
-                    .map(phoneDto -> {
-                        Phone phone = existingPhones.stream()
-                                .filter(p -> p.getNumber().equals(phoneDto.getNumber()))
-                                .findFirst()
-                                .orElse(new Phone());
-                        phone.setNumber(phoneDto.getNumber());
-                        phone.setCityCode(phoneDto.getCitycode());
-                        phone.setContryCode(phoneDto.getContrycode());
+    /**
+     * Reemplaza los teléfonos del usuario modificando la colección en lugar de sustituirla. Los teléfonos se
+     * indexan por número: los que ya existen se conservan (y solo se actualizan si cambian sus códigos), los
+     * nuevos se insertan y los que no vienen en la solicitud se eliminan.
+     *
+     * @param user      El usuario a modificar.
+     * @param phoneDtos Los teléfonos solicitados.
+     */
+    private void applyPhones(User user, List<PhoneDto> phoneDtos) {
+        Map<String, PhoneDto> requested = new LinkedHashMap<>();
+        phoneDtos.forEach(phoneDto -> requested.put(phoneDto.getNumber(), phoneDto));
 
-                        return phone;
-                    }).collect(Collectors.toList());
+        if (user.getPhones() == null) {
+            user.setPhones(new ArrayList<>());
+        }
+        List<Phone> phones = user.getPhones();
+        phones.removeIf(phone -> !requested.containsKey(phone.getNumber()));
+
+        Map<String, Phone> existing = new HashMap<>();
+        phones.forEach(phone -> existing.putIfAbsent(phone.getNumber(), phone));
+
+        for (PhoneDto phoneDto : requested.values()) {
+            Phone phone = existing.get(phoneDto.getNumber());
+            if (phone == null) {
+                phone = new Phone();
+                phone.setNumber(phoneDto.getNumber());
+                phones.add(phone);
+            }
+            phone.setCityCode(phoneDto.getCitycode());
+            phone.setContryCode(phoneDto.getContrycode());
+        }
+    }
 
-            user.setPhones(updatedPhones);
+    /**
+     * Obtiene el texto de un campo obligatorio del documento de cambios.
+     *
+     * @param name  El nombre del campo.
+     * @param value El valor del campo.
+     * @return El texto del campo.
+     * @throws InvalidPatchException Si el valor es nulo, vacío o no es texto.
+     */
+    private static String requireText(String name, JsonNode value) {
+        if (!value.isTextual() || value.textValue().isBlank()) {
+            throw new InvalidPatchException("El campo '" + name + "' no puede estar vacío");
         }
+        return value.textValue();
+    }
 
-        return userRepository.save(user);
+    /**
+     * Convierte la lista de teléfonos del documento de cambios.
+     *
+     * @param value El valor del campo {@code phones}.
+     * @return Los teléfonos solicitados.
+     * @throws InvalidPatchException Si la lista está vacía o algún teléfono está incompleto.
+     */
+    private static List<PhoneDto> readPhones(JsonNode value) {
+        if (!value.isArray() || value.size() == 0) {
+            throw new InvalidPatchException("Debe proporcionar al menos un número de teléfono");
+        }
+        List<PhoneDto> phones = new ArrayList<>(value.size());
+        for (JsonNode phone : value) {
+            if (!phone.isObject()) {
+                throw new InvalidPatchException("Cada teléfono debe ser un objeto JSON");
+            }
+            phones.add(new PhoneDto(requireText("number", phone.path("number")),
+                    requireText("citycode", phone.path("citycode")),
+                    requireText("contrycode", phone.path("contrycode"))));
+        }
+        return phones;
     }
 
     /**
-     * Elimina un usuario por su ID.
+     * Da de baja lógicamente a un usuario con una sola sentencia UPDATE, sin cargar la entidad ni eliminar sus
+     * teléfonos; {@link com.desafioTecnico.components.DeletedUserPurger} los elimina definitivamente más tarde.
      *
      * @param id El ID del usuario a eliminar.
+     * @throws UserNotFoundException Si el usuario no existe o ya fue eliminado.
      */
     @Override
     @Transactional
     public void deleteUser(UUID id) {
-        userRepository.deleteById(id);
+        if (userRepository.softDeleteByIds(List.of(id), LocalDateTime.now()) == 0) {
+            throw new UserNotFoundException("Usuario no encontrado con ID: " + id);
+        }
+        userChangeService.recordDeletion(id);
+        userResponseCache.invalidate(id);
+        emailIndex.recordRemoval();
+    }
+
+    /**
+     * Da de baja lógicamente a varios usuarios en lotes de {@value #DELETE_BATCH_SIZE}, con una consulta y una
+     * sentencia UPDATE por lote, en una sola transacción.
+     *
+     * @param ids Los IDs de los usuarios a eliminar.
+     * @return La cantidad de IDs recibidos y de usuarios eliminados.
+     */
+    @Override
+    @Transactional
+    public BulkDeleteResultDto deleteUsers(List<UUID> ids) {
+        List<UUID> unique = new ArrayList<>(new LinkedHashSet<>(ids));
+        LocalDateTime now = LocalDateTime.now();
+        int deleted = 0;
+        for (int from = 0; from < unique.size(); from += DELETE_BATCH_SIZE) {
+            List<UUID> existing = userRepository.findExistingIds(
+                    unique.subList(from, Math.min(from + DELETE_BATCH_SIZE, unique.size())));
+            if (existing.isEmpty()) {
+                continue;
+            }
+            deleted += userRepository.softDeleteByIds(existing, now);
+            userChangeService.recordDeletions(existing);
+            for (UUID id : existing) {
+                userResponseCache.invalidate(id);
+                emailIndex.recordRemoval();
+            }
+        }
+        return new BulkDeleteResultDto(ids.size(), deleted);
+    }
+
+    /**
+     * Cierra la sesión revocando el token con el que se autenticó la solicitud.
+     *
+     * @param claims Los datos del token verificado.
+     */
+    @Override
+    public void logout(TokenClaimsDto claims) {
+        tokenRevocationList.revoke(claims.getTokenId(), claims.getExpiresAt());
+    }
+
+    /**
+     * Revoca todos los tokens emitidos para un usuario incrementando la versión de sus tokens. El incremento y la
+     * lectura de la nueva versión se ejecutan en la misma transacción de lectura y escritura, sobre la base de
+     * datos principal: una réplica atrasada devolvería la versión anterior y la revocación no tendría efecto.
+     *
+     * @param id El ID del usuario.
+     * @throws UserNotFoundException Si el usuario no existe.
+     */
+    @Override
+    @Transactional
+    public void revokeTokens(UUID id) {
+        if (userRepository.incrementTokenVersion(id) == 0) {
+            throw new UserNotFoundException("Usuario no encontrado con ID: " + id);
+        }
+        int tokenVersion = userRepository.findTokenVersionById(id)
+                .orElseThrow(() -> new UserNotFoundException("Usuario no encontrado con ID: " + id));
+        tokenRevocationList.raiseMinimumVersion(id, tokenVersion);
     }
 }
@@ -0,0 +1,35 @@
+package com.desafioTecnico.validators;
+
+import com.desafioTecnico.exceptions.EmailValidationException;
+
+import java.util.regex.Pattern;
+
+/**
+ * Valida el formato de un correo electrónico con una expresión regular compilada una sola vez.
+ */
+public class EmailFormatValidator implements Validator<String> {
+
+    private final Pattern pattern;
+
+    /**
+     * Constructor de EmailFormatValidator.
+     *
+     * @param regex expresión regular que debe cumplir el correo completo.
+     */
+    public EmailFormatValidator(String regex) {
+        this.pattern = Pattern.compile(regex);
+    }
+
+    /**
+     * Valida si el correo tiene un formato válido.
+     *
+     * @param email el correo a validar.
+     * @throws EmailValidationException si el formato del correo no es válido.
+     */
+    @Override
+    public void validate(String email) {
+        if (email == null || !pattern.matcher(email).matches()) {
+            throw new EmailValidationException("El correo no tiene un formato válido.");
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.desafioTecnico.validators;
+
+import com.desafioTecnico.exceptions.PasswordValidationException;
+
+/**
+ * Valida la política de contraseñas recorriendo la contraseña una sola vez y clasificando cada carácter.
+ * Acepta las mismas contraseñas que la expresión regular
+ * {@code ^(?=.*[0-9])(?=.*[a-zA-Z])(?=.*[@#$%^&+=]).{8,20}$}, pero en tiempo lineal y sin
+ * los retrocesos de los lookaheads.
+ */
+public class PasswordPolicyValidator implements Validator<String> {
+
+    private final int minLength;
+
+    private final int maxLength;
+
+    private final String specialCharacters;
+
+    /**
+     * Constructor de PasswordPolicyValidator.
+     *
+     * @param minLength longitud mínima de la contraseña.
+     * @param maxLength longitud máxima de la contraseña.
+     * @param specialCharacters caracteres especiales de los que la contraseña debe incluir al menos uno.
+     */
+    public PasswordPolicyValidator(int minLength, int maxLength, String specialCharacters) {
+        this.minLength = minLength;
+        this.maxLength = maxLength;
+        this.specialCharacters = specialCharacters;
+    }
+
+    /**
+     * Valida la contraseña de acuerdo a la política configurada.
+     *
+     * @param password la contraseña a validar.
+     * @throws PasswordValidationException si la contraseña no cumple con los requisitos.
+     */
+    @Override
+    public void validate(String password) {
+        if (!isValid(password)) {
+            throw new PasswordValidationException("La contraseña debe tener al menos 8 caracteres, " +
+                    "incluir al menos una letra mayúscula, una letra minúscula, " +
+                    "un número y un carácter especial.");
+        }
+    }
+
+    /**
+     * Indica si la contraseña cumple la política.
+     *
+     * @param password la contraseña a evaluar.
+     * @return {@code true} si la contraseña es válida.
+     */
+    public boolean isValid(String password) {
+        if (password == null || password.length() < minLength || password.length() > maxLength) {
+            return false;
+        }
+        boolean hasDigit = false;
+        boolean hasLetter = false;
+        boolean hasSpecial = false;
+        for (int i = 0; i < password.length(); i++) {
+            char c = password.charAt(i);
+            if (isLineTerminator(c)) {
+                return false;
+            }
+            if (c >= '0' && c <= '9') {
+                hasDigit = true;
+            } else if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+                hasLetter = true;
+            } else if (specialCharacters.indexOf(c) >= 0) {
+                hasSpecial = true;
+            }
+        }
+        return hasDigit && hasLetter && hasSpecial;
+    }
+
+    /**
+     * Caracteres que el punto de una expresión regular de Java no acepta.
+     */
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
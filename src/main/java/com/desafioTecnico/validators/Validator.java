@@ -0,0 +1,19 @@
+package com.desafioTecnico.validators;
+
+/**
+ * Interfaz que define una regla de validación sobre un valor de entrada.
+ * Las implementaciones se construyen una sola vez al iniciar la aplicación y deben ser seguras
+ * para usarse desde varios hilos a la vez.
+ *
+ * @param <T> tipo del valor a validar.
+ */
+public interface Validator<T> {
+
+    /**
+     * Valida el valor indicado.
+     *
+     * @param value el valor a validar.
+     * @throws RuntimeException la excepción de dominio correspondiente si el valor no es válido.
+     */
+    void validate(T value);
+}
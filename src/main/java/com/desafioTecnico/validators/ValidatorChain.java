@@ -0,0 +1,34 @@
+package com.desafioTecnico.validators;
+
+import java.util.List;
+
+/**
+ * Cadena de validadores que se ejecutan en orden; la primera regla que falla detiene la validación.
+ *
+ * @param <T> tipo del valor a validar.
+ */
+public class ValidatorChain<T> implements Validator<T> {
+
+    private final List<Validator<T>> validators;
+
+    /**
+     * Constructor de ValidatorChain.
+     *
+     * @param validators validadores a ejecutar, en el orden en que deben aplicarse.
+     */
+    public ValidatorChain(List<Validator<T>> validators) {
+        this.validators = List.copyOf(validators);
+    }
+
+    /**
+     * Ejecuta todos los validadores de la cadena sobre el valor indicado.
+     *
+     * @param value el valor a validar.
+     */
+    @Override
+    public void validate(T value) {
+        for (Validator<T> validator : validators) {
+            validator.validate(value);
+        }
+    }
+}
@@ -2,22 +2,54 @@
 CREATE TABLE IF NOT EXISTS users (
     id UUID PRIMARY KEY,
     name VARCHAR(255) NOT NULL,
-    email VARCHAR(255) NOT NULL UNIQUE,
+    email VARCHAR(255) NOT NULL,
     password VARCHAR(255) NOT NULL,
     created TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     modified TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     last_login TIMESTAMP,
-    token VARCHAR(255),
-    is_active BOOLEAN
+    is_active BOOLEAN,
+    token_version INT DEFAULT 0 NOT NULL,
+    version BIGINT DEFAULT 0 NOT NULL,
+    deleted_at TIMESTAMP,
+    -- Correo de los usuarios no eliminados; es nulo en las bajas lógicas para que el correo pueda volver a registrarse
+    active_email VARCHAR(255) GENERATED ALWAYS AS (CASE WHEN deleted_at IS NULL THEN email END)
     );
 
+CREATE UNIQUE INDEX IF NOT EXISTS uk_users_active_email ON users (active_email);
+CREATE INDEX IF NOT EXISTS idx_users_deleted_at ON users (deleted_at);
+
+
+-- Crear la secuencia de IDs de teléfonos; cada lectura reserva un bloque de 50 IDs
+CREATE SEQUENCE IF NOT EXISTS phones_seq START WITH 1 INCREMENT BY 50;
 
 -- Crear la tabla de teléfonos
 CREATE TABLE IF NOT EXISTS phones (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT PRIMARY KEY,
     number VARCHAR(255) NOT NULL,
     city_code VARCHAR(255) NOT NULL,
     contry_code VARCHAR(255) NOT NULL,
-    user_id UUID,
+    user_id UUID NOT NULL,
     FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
 );
+
+-- Índices de la búsqueda de usuarios: prefijo de correo y de nombre, rango de fechas de creación (con el ID para la paginación
+-- keyset), carga de teléfonos por usuario y búsqueda inversa por teléfono
+CREATE INDEX IF NOT EXISTS idx_users_email ON users (email);
+CREATE INDEX IF NOT EXISTS idx_users_name ON users (name);
+CREATE INDEX IF NOT EXISTS idx_users_created_id ON users (created, id);
+CREATE INDEX IF NOT EXISTS idx_phones_user_id ON phones (user_id);
+CREATE INDEX IF NOT EXISTS idx_phones_number ON phones (number, city_code, contry_code);
+
+-- Crear la tabla de cambios pendientes de publicar (outbox transaccional); published_seq es nulo hasta que
+-- el relay publica el cambio y le asigna su posición en el flujo de cambios
+CREATE TABLE IF NOT EXISTS user_changes (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id UUID NOT NULL,
+    change_type VARCHAR(16) NOT NULL,
+    occurred_at TIMESTAMP NOT NULL,
+    payload CLOB,
+    published_seq BIGINT UNIQUE
+);
+
+-- Índice de la purga periódica de cambios publicados, que los elimina por fecha (ver UserChangeServiceImpl)
+CREATE INDEX IF NOT EXISTS idx_user_changes_occurred_at ON user_changes (occurred_at);
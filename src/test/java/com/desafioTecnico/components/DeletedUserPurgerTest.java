@@ -0,0 +1,66 @@
+package com.desafioTecnico.components;
+
+import com.desafioTecnico.models.Phone;
+import com.desafioTecnico.models.User;
+import com.desafioTecnico.repositories.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class DeletedUserPurgerTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DeletedUserPurger deletedUserPurger;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void softDelete_ShouldHideUserAndReleaseEmail() {
+        User user = save("purge-hidden@example.com");
+
+        assertEquals(1, userRepository.softDeleteByIds(List.of(user.getId()), LocalDateTime.now()));
+
+        assertTrue(userRepository.findById(user.getId()).isEmpty());
+        assertFalse(userRepository.existsByEmail("purge-hidden@example.com"));
+        assertEquals(0, userRepository.softDeleteByIds(List.of(user.getId()), LocalDateTime.now()));
+        assertNotNull(save("purge-hidden@example.com").getId());
+    }
+
+    @Test
+    void purge_ShouldDeleteUsersAndPhonesAfterGracePeriod() {
+        User expired = save("purge-expired@example.com");
+        User recent = save("purge-recent@example.com");
+        userRepository.softDeleteByIds(List.of(expired.getId()), LocalDateTime.now().minusDays(2));
+        userRepository.softDeleteByIds(List.of(recent.getId()), LocalDateTime.now());
+
+        assertTrue(deletedUserPurger.purge() >= 1);
+
+        assertEquals(0, count("SELECT COUNT(*) FROM users WHERE id = ?", expired.getId()));
+        assertEquals(0, count("SELECT COUNT(*) FROM phones WHERE user_id = ?", expired.getId()));
+        assertEquals(1, count("SELECT COUNT(*) FROM users WHERE id = ?", recent.getId()));
+    }
+
+    private User save(String email) {
+        List<Phone> phones = new ArrayList<>(List.of(new Phone(null, "5551234", "1", "56")));
+        LocalDateTime now = LocalDateTime.now();
+        return userRepository.save(new User(null, "Purge User", email, "hash", phones, now, now, null, null,
+                true, 0, null, null));
+    }
+
+    private int count(String sql, Object id) {
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, id);
+        return count != null ? count : 0;
+    }
+}
@@ -0,0 +1,86 @@
+package com.desafioTecnico.components;
+
+import com.desafioTecnico.repositories.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class LastLoginWriterTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+
+    private final UserResponseCache userResponseCache = mock(UserResponseCache.class);
+
+    private final LastLoginWriter writer = new LastLoginWriter(jdbcTemplate, userRepository, userResponseCache, 2, 500);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_ShouldWriteLatestLoginOfEachUserInOneBatch() {
+        UUID userId = UUID.randomUUID();
+        LocalDateTime first = LocalDateTime.of(2024, 1, 1, 10, 0);
+        LocalDateTime latest = first.plusMinutes(5);
+
+        writer.record(userId, latest);
+        writer.record(userId, first);
+        writer.flush();
+
+        ArgumentCaptor<List<Object[]>> batch = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), batch.capture());
+        assertEquals(1, batch.getValue().size());
+        assertEquals(Timestamp.valueOf(latest), batch.getValue().get(0)[0]);
+        assertEquals(userId, batch.getValue().get(0)[1]);
+        verify(userResponseCache).invalidate(userId);
+        verifyNoInteractions(userRepository);
+        assertEquals(0, writer.pendingCount());
+    }
+
+    @Test
+    void record_ShouldWriteImmediately_WhenPendingLimitIsReached() {
+        LocalDateTime now = LocalDateTime.now();
+        writer.record(UUID.randomUUID(), now);
+        writer.record(UUID.randomUUID(), now);
+        UUID overflow = UUID.randomUUID();
+
+        writer.record(overflow, now);
+
+        verify(userRepository).updateLastLogin(overflow, now);
+        verify(userResponseCache).invalidate(overflow);
+        assertEquals(2, writer.pendingCount());
+    }
+
+    @Test
+    void flush_ShouldKeepPendingLogins_WhenBatchFails() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("sin conexión"));
+        writer.record(UUID.randomUUID(), LocalDateTime.now());
+
+        writer.flush();
+
+        assertEquals(1, writer.pendingCount());
+        verify(userResponseCache, never()).invalidate(any(UUID.class));
+    }
+
+    @Test
+    void close_ShouldFlushPendingLogins() {
+        writer.record(UUID.randomUUID(), LocalDateTime.now());
+
+        writer.close();
+
+        verify(jdbcTemplate).batchUpdate(anyString(), anyList());
+        assertEquals(0, writer.pendingCount());
+    }
+}
@@ -0,0 +1,33 @@
+package com.desafioTecnico.components;
+
+import com.desafioTecnico.exceptions.TooManyRequestsException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginRateLimiterTest {
+
+    @Test
+    void acquire_ShouldRejectAttempts_WhenEmailBucketIsEmpty() {
+        LoginRateLimiter rateLimiter = new LoginRateLimiter(2, 1, 100, 100);
+
+        rateLimiter.acquire("jerry@gmail.com", "10.0.0.1");
+        rateLimiter.acquire("JERRY@gmail.com", "10.0.0.2");
+
+        TooManyRequestsException ex = assertThrows(TooManyRequestsException.class,
+                () -> rateLimiter.acquire("jerry@gmail.com", "10.0.0.3"));
+        assertTrue(ex.getRetryAfterSeconds() >= 1);
+
+        assertDoesNotThrow(() -> rateLimiter.acquire("otro@gmail.com", "10.0.0.1"));
+    }
+
+    @Test
+    void acquire_ShouldRejectAttempts_WhenIpBucketIsEmpty() {
+        LoginRateLimiter rateLimiter = new LoginRateLimiter(100, 100, 1, 1);
+
+        rateLimiter.acquire("a@gmail.com", "10.0.0.1");
+
+        assertThrows(TooManyRequestsException.class, () -> rateLimiter.acquire("b@gmail.com", "10.0.0.1"));
+        assertDoesNotThrow(() -> rateLimiter.acquire("b@gmail.com", "10.0.0.2"));
+    }
+}
@@ -0,0 +1,94 @@
+package com.desafioTecnico.components;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>("test.lookup", "Lecturas",
+            meterRegistry);
+
+    @Test
+    void execute_ShouldShareResultOfConcurrentCallsWithSameKey() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<String> leader = executor.submit(() -> singleFlight.execute("a", () -> {
+                executions.incrementAndGet();
+                started.countDown();
+                await(release);
+                return "valor";
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            List<Future<String>> followers = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                followers.add(executor.submit(() -> singleFlight.execute("a", () -> {
+                    executions.incrementAndGet();
+                    return "otro";
+                })));
+            }
+            while (coalesced() < 3) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            assertEquals("valor", leader.get(5, TimeUnit.SECONDS));
+            for (Future<String> follower : followers) {
+                assertEquals("valor", follower.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, executions.get());
+        assertEquals(1.0, meterRegistry.get("test.lookup").tag("result", "executed").counter().count());
+    }
+
+    @Test
+    void execute_ShouldRunAgainOnceTheCallFinished() {
+        AtomicInteger executions = new AtomicInteger();
+
+        singleFlight.execute("a", executions::incrementAndGet);
+        singleFlight.execute("a", executions::incrementAndGet);
+
+        assertEquals(2, executions.get());
+        assertEquals(0, coalesced());
+        assertEquals(0.0, meterRegistry.get("test.lookup.in-flight").gauge().value());
+    }
+
+    @Test
+    void execute_ShouldPropagateExceptionAndReleaseKey() {
+        assertThrows(IllegalStateException.class, () -> singleFlight.execute("a", () -> {
+            throw new IllegalStateException("Usuario no encontrado");
+        }));
+
+        assertEquals("valor", singleFlight.execute("a", () -> "valor"));
+    }
+
+    private double coalesced() {
+        return meterRegistry.get("test.lookup").tag("result", "coalesced").counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
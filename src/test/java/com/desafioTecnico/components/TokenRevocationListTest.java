@@ -0,0 +1,69 @@
+package com.desafioTecnico.components;
+
+import com.desafioTecnico.dtos.TokenClaimsDto;
+import com.desafioTecnico.repositories.UserRepository;
+import com.desafioTecnico.repositories.UserTokenVersionView;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TokenRevocationListTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+
+    private final TokenRevocationList revocationList = new TokenRevocationList(userRepository);
+
+    @Test
+    void isRevoked_ShouldRejectRevokedTokenId() {
+        TokenClaimsDto claims = claims("jti-1", UUID.randomUUID(), 0, Instant.now().plusSeconds(60));
+
+        revocationList.revoke("jti-1", claims.getExpiresAt());
+
+        assertTrue(revocationList.isRevoked(claims));
+        assertFalse(revocationList.isRevoked(claims("jti-2", claims.getUserId(), 0, claims.getExpiresAt())));
+    }
+
+    @Test
+    void isRevoked_ShouldRejectTokensBelowMinimumVersion() {
+        UUID userId = UUID.randomUUID();
+
+        revocationList.raiseMinimumVersion(userId, 2);
+        revocationList.raiseMinimumVersion(userId, 1);
+
+        assertTrue(revocationList.isRevoked(claims("a", userId, 1, null)));
+        assertFalse(revocationList.isRevoked(claims("b", userId, 2, null)));
+        assertFalse(revocationList.isRevoked(claims("c", UUID.randomUUID(), 0, null)));
+    }
+
+    @Test
+    void compact_ShouldDropExpiredTokenIds() {
+        revocationList.revoke("expired", Instant.now().minusSeconds(1));
+        revocationList.revoke("active", Instant.now().plusSeconds(60));
+
+        revocationList.compact();
+
+        assertEquals(1, revocationList.revokedTokenCount());
+    }
+
+    @Test
+    void load_ShouldRestoreVersionsFromDatabase() {
+        UUID userId = UUID.randomUUID();
+        UserTokenVersionView view = mock(UserTokenVersionView.class);
+        when(view.getId()).thenReturn(userId);
+        when(view.getTokenVersion()).thenReturn(3);
+        when(userRepository.findByTokenVersionGreaterThan(0)).thenReturn(List.of(view));
+
+        revocationList.load();
+
+        assertTrue(revocationList.isRevoked(claims("a", userId, 2, null)));
+    }
+
+    private static TokenClaimsDto claims(String tokenId, UUID userId, int tokenVersion, Instant expiresAt) {
+        return new TokenClaimsDto("user@gmail.com", tokenId, userId, tokenVersion, Instant.now(), expiresAt);
+    }
+}
@@ -0,0 +1,101 @@
+package com.desafioTecnico.components;
+
+import com.desafioTecnico.dtos.CacheStatsDto;
+import com.desafioTecnico.dtos.SerializedUserDto;
+import com.desafioTecnico.dtos.UserResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserResponseCacheTest {
+
+    private final UserResponseCache cache = new UserResponseCache(new ObjectMapper(), 1024 * 1024, 300);
+
+    @Test
+    void get_ShouldLoadOnceAndRecordHitsAndMisses() {
+        UUID id = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(id, key -> {
+            loads.incrementAndGet();
+            return Map.of("id", key.toString());
+        });
+        SerializedUserDto cached = cache.get(id, key -> {
+            loads.incrementAndGet();
+            return Map.of("id", key.toString());
+        });
+
+        assertEquals(1, loads.get());
+        assertEquals("{\"id\":\"" + id + "\"}", new String(cached.getJson()));
+        CacheStatsDto stats = cache.stats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+    }
+
+    @Test
+    void invalidate_ShouldForceReload() {
+        UUID id = UUID.randomUUID();
+        cache.get(id, key -> Map.of("version", 1));
+
+        cache.invalidate(id);
+        SerializedUserDto reloaded = cache.get(id, key -> Map.of("version", 2));
+
+        assertEquals("{\"version\":2}", new String(reloaded.getJson()));
+    }
+
+    @Test
+    void get_ShouldDeriveEtagFromContent() {
+        SerializedUserDto first = cache.get(UUID.randomUUID(), key -> Map.of("name", "A"));
+        SerializedUserDto same = cache.get(UUID.randomUUID(), key -> Map.of("name", "A"));
+        SerializedUserDto other = cache.get(UUID.randomUUID(), key -> Map.of("name", "B"));
+
+        assertEquals(first.getEtag(), same.getEtag());
+        assertNotEquals(first.getEtag(), other.getEtag());
+        assertTrue(first.getEtag().startsWith("\"") && first.getEtag().endsWith("\""));
+    }
+
+    @Test
+    void matchesVersion_ShouldCompareVersionOfStrongEtags() {
+        UserResponseDto user = new UserResponseDto();
+        user.setVersion(4L);
+        String etag = cache.get(UUID.randomUUID(), key -> user).getEtag();
+
+        assertTrue(etag.startsWith("\"4."));
+        assertTrue(UserResponseCache.matchesVersion(etag, 4L));
+        assertTrue(UserResponseCache.matchesVersion("\"3.abc\", " + etag, 4L));
+        assertTrue(UserResponseCache.matchesVersion("*", 4L));
+        assertFalse(UserResponseCache.matchesVersion(etag, 5L));
+        assertFalse(UserResponseCache.matchesVersion("W/" + etag, 4L));
+        assertFalse(UserResponseCache.matchesVersion("\"sin-version\"", 4L));
+    }
+
+    @Test
+    void get_ShouldNotCacheLoaderExceptions() {
+        UUID id = UUID.randomUUID();
+
+        assertThrows(IllegalStateException.class, () -> cache.get(id, key -> {
+            throw new IllegalStateException("Usuario no encontrado");
+        }));
+        SerializedUserDto loaded = cache.get(id, key -> Map.of("found", true));
+
+        assertEquals("{\"found\":true}", new String(loaded.getJson()));
+    }
+
+    @Test
+    void load_ShouldNotStoreResponse_WhenInvalidatedDuringLoad() {
+        UUID id = UUID.randomUUID();
+
+        SerializedUserDto loaded = cache.load(id, key -> {
+            cache.invalidate(key);
+            return Map.of("version", 1);
+        });
+
+        assertEquals("{\"version\":1}", new String(loaded.getJson()));
+        assertNull(cache.getIfPresent(id));
+    }
+}
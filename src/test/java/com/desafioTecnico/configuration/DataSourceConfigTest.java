@@ -0,0 +1,163 @@
+package com.desafioTecnico.configuration;
+
+import com.desafioTecnico.components.TokenRevocationList;
+import com.desafioTecnico.dtos.PhoneDto;
+import com.desafioTecnico.dtos.SerializedUserDto;
+import com.desafioTecnico.dtos.TokenClaimsDto;
+import com.desafioTecnico.dtos.UserRequestDto;
+import com.desafioTecnico.models.User;
+import com.desafioTecnico.services.UserService;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * La réplica es una base de datos aparte que solo contiene la tabla {@code users} y que la prueba copia desde la
+ * principal con {@code replicate()}, por lo que una lectura enviada a la réplica puede estar atrasada, una
+ * escritura en la réplica no llega a la principal y una lectura de teléfonos en la réplica falla.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routingdb",
+        "user.datasource.replica.enabled=true",
+        "user.datasource.replica.jdbc-url=jdbc:h2:mem:routingreplica;DB_CLOSE_DELAY=-1;"
+                + "INIT=RUNSCRIPT FROM 'classpath:replica.sql'",
+        "user.datasource.replica.read-only=false",
+        "user.login.last-login.max-pending=0"
+})
+@AutoConfigureMockMvc
+class DataSourceConfigTest {
+
+    private static final String PASSWORD = "P@ssw0rd123";
+
+    private static final String USER_COLUMNS = "id, name, email, password, created, modified, last_login, "
+            + "is_active, token_version, version, deleted_at";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private HikariDataSource replicaDataSource;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TokenRevocationList tokenRevocationList;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void readOnlyTransactions_ShouldUseReplicaPool_AndWritesPrimaryPool() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+
+        Integer replicaConnectionsInReadOnly = readOnly.execute(status -> {
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Integer.class);
+            return activeReplicaConnections();
+        });
+        Integer replicaConnectionsInReadWrite = readWrite.execute(status -> {
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Integer.class);
+            return activeReplicaConnections();
+        });
+
+        assertEquals(1, replicaConnectionsInReadOnly);
+        assertEquals(0, replicaConnectionsInReadWrite);
+    }
+
+    @Test
+    void findSerializedById_ShouldLoadCacheMissesFromPrimary() {
+        User user = register("routing-read@example.com");
+
+        assertThrows(DataAccessException.class, () -> userService.findById(user.getId()));
+        SerializedUserDto response = userService.findSerializedById(user.getId());
+
+        assertTrue(new String(response.getJson(), StandardCharsets.UTF_8).contains("routing-read@example.com"));
+    }
+
+    @Test
+    void login_ShouldWriteToPrimary_AfterReadingCredentialsFromReplica() throws Exception {
+        User user = register("routing-login@example.com");
+        replicate();
+        Timestamp before = lastLogin(user.getId());
+
+        MvcResult result = mockMvc.perform(post("/api/v1/users/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"routing-login@example.com\",\"password\":\"" + PASSWORD + "\"}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+
+        Timestamp after = lastLogin(user.getId());
+        assertNotNull(after);
+        assertTrue(before == null || after.after(before));
+    }
+
+    @Test
+    void revokeTokens_ShouldRevokeCurrentVersion_WhenReplicaIsStale() {
+        User user = register("routing-revoke@example.com");
+        replicate();
+        TokenClaimsDto issuedBeforeRevocation = new TokenClaimsDto(user.getEmail(), null, user.getId(),
+                user.getTokenVersion(), null, null);
+
+        userService.revokeTokens(user.getId());
+
+        assertTrue(tokenRevocationList.isRevoked(issuedBeforeRevocation));
+    }
+
+    private User register(String email) {
+        return userService.registerUser(new UserRequestDto("Routing User", email, PASSWORD, true,
+                List.of(new PhoneDto("5551234", "1", "56"))));
+    }
+
+    /**
+     * Copia a la réplica el estado actual de la tabla {@code users} de la base de datos principal.
+     */
+    private void replicate() {
+        List<Object[]> rows = jdbcTemplate.query("SELECT " + USER_COLUMNS + " FROM users", (rs, rowNum) -> {
+            Object[] row = new Object[rs.getMetaData().getColumnCount()];
+            for (int i = 0; i < row.length; i++) {
+                row[i] = rs.getObject(i + 1);
+            }
+            return row;
+        });
+        new JdbcTemplate(replicaDataSource).batchUpdate("MERGE INTO users (" + USER_COLUMNS + ") KEY (id) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    private Timestamp lastLogin(UUID id) {
+        return jdbcTemplate.queryForObject("SELECT last_login FROM users WHERE id = ?", Timestamp.class, id);
+    }
+
+    private int activeReplicaConnections() {
+        HikariPoolMXBean pool = replicaDataSource.getHikariPoolMXBean();
+        return pool != null ? pool.getActiveConnections() : 0;
+    }
+}
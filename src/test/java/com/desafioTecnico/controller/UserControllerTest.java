@@ -1,30 +1,79 @@
 package com.desafioTecnico.controller;
 
+import com.desafioTecnico.components.IdempotencyStore;
+import com.desafioTecnico.dtos.BulkDeleteResultDto;
+import com.desafioTecnico.dtos.BulkRegistrationItemDto;
+import com.desafioTecnico.dtos.BulkRegistrationResultDto;
+import com.desafioTecnico.dtos.CursorPageDto;
+import com.desafioTecnico.dtos.LoginRequestDto;
+import com.desafioTecnico.dtos.LoginResponseDto;
+import com.desafioTecnico.dtos.SerializedUserDto;
+import com.desafioTecnico.dtos.TokenClaimsDto;
+import com.desafioTecnico.dtos.UserChangeDto;
+import com.desafioTecnico.dtos.UserChangeFeedDto;
 import com.desafioTecnico.dtos.UserRequestDto;
+import com.desafioTecnico.dtos.UserResponseDto;
+import com.desafioTecnico.dtos.UserSearchCriteriaDto;
+import com.desafioTecnico.exceptions.GlobalExceptionHandler;
+import com.desafioTecnico.exceptions.IdempotencyKeyException;
+import com.desafioTecnico.exceptions.ServiceBusyException;
 import com.desafioTecnico.models.User;
+import com.desafioTecnico.services.BulkUserRegistrationService;
+import com.desafioTecnico.services.UserChangeService;
 import com.desafioTecnico.services.UserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 class UserControllerTest {
 
     @Mock
     private UserService userService;
 
-    @InjectMocks
+    @Mock
+    private BulkUserRegistrationService bulkUserRegistrationService;
+
+    @Mock
+    private UserChangeService userChangeService;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
     private UserController userController;
 
     private User user;
@@ -34,8 +83,10 @@ class UserControllerTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        userController = new UserController(userService, bulkUserRegistrationService, userChangeService,
+                objectMapper, Runnable::run, new IdempotencyStore(objectMapper, 100, 60));
         userId = UUID.randomUUID();
-        user = new User(userId, "Test User", "test@example.com", "password", new ArrayList<>(), null, null, null, null, true);
+        user = new User(userId, "Test User", "test@example.com", "password", new ArrayList<>(), null, null, null, null, true, 0, null, null);
         userRequestDto = new UserRequestDto("Test User", "test@example.com", "password", true, new ArrayList<>());
     }
 
@@ -43,46 +94,226 @@ class UserControllerTest {
     void registerUser_ShouldReturnCreatedUser() {
         when(userService.registerUser(any(UserRequestDto.class))).thenReturn(user);
 
-        ResponseEntity<User> response = userController.registerUser(userRequestDto);
+        user.setToken("token");
+
+        ResponseEntity<UserResponseDto> response = userController.registerUser(userRequestDto, null).join();
 
         assertEquals(HttpStatus.CREATED, response.getStatusCode());
-        assertEquals(user, response.getBody());
+        assertEquals(userId, response.getBody().getId());
+        assertEquals("token", response.getBody().getToken());
         verify(userService, times(1)).registerUser(userRequestDto);
     }
 
     @Test
-    void getUserById_ShouldReturnUser() {
-        when(userService.findById(userId)).thenReturn(user);
+    void registerUser_ShouldReplayResponse_WhenIdempotencyKeyIsRepeated() {
+        when(userService.registerUser(any(UserRequestDto.class))).thenReturn(user);
+
+        ResponseEntity<UserResponseDto> first = userController.registerUser(userRequestDto, "retry-1").join();
+        ResponseEntity<UserResponseDto> retry = userController.registerUser(userRequestDto, "retry-1").join();
+
+        assertEquals(HttpStatus.CREATED, retry.getStatusCode());
+        assertSame(first.getBody(), retry.getBody());
+        assertEquals("true", retry.getHeaders().getFirst(IdempotencyStore.REPLAYED_HEADER));
+        verify(userService, times(1)).registerUser(userRequestDto);
+    }
+
+    @Test
+    void registerUser_ShouldRejectIdempotencyKey_WhenBodyIsDifferent() {
+        when(userService.registerUser(any(UserRequestDto.class))).thenReturn(user);
+        userController.registerUser(userRequestDto, "retry-2").join();
+        UserRequestDto other = new UserRequestDto("Other User", "other@example.com", "password", true, new ArrayList<>());
+
+        assertThrows(IdempotencyKeyException.class, () -> userController.registerUser(other, "retry-2"));
+        verify(userService, never()).registerUser(other);
+    }
+
+    @Test
+    void registerUser_ShouldExecuteAgain_WhenFirstAttemptFailed() {
+        when(userService.registerUser(any(UserRequestDto.class)))
+                .thenThrow(new ServiceBusyException("ocupado"))
+                .thenReturn(user);
+
+        assertThrows(CompletionException.class, () -> userController.registerUser(userRequestDto, "retry-3").join());
+        ResponseEntity<UserResponseDto> retry = userController.registerUser(userRequestDto, "retry-3").join();
+
+        assertEquals(HttpStatus.CREATED, retry.getStatusCode());
+        verify(userService, times(2)).registerUser(userRequestDto);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void registerUsers_ShouldReadNdjsonBodyIncrementally() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setContent(("{\"name\":\"A\",\"email\":\"a@example.com\",\"password\":\"P@ssw0rd1\"}\n" +
+                "{\"name\":\"B\",\"email\":\"b@example.com\",\"password\":\"P@ssw0rd2\"}\n")
+                .getBytes(StandardCharsets.UTF_8));
+        List<String> emails = new ArrayList<>();
+        BulkRegistrationResultDto result = new BulkRegistrationResultDto(2, 2, 0, false, new ArrayList<BulkRegistrationItemDto>());
+        when(bulkUserRegistrationService.registerUsers(any(Iterator.class))).thenAnswer(invocation -> {
+            Iterator<UserRequestDto> requests = invocation.getArgument(0);
+            requests.forEachRemaining(dto -> emails.add(dto.getEmail()));
+            return result;
+        });
+
+        ResponseEntity<BulkRegistrationResultDto> response = userController.registerUsers(request);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(result, response.getBody());
+        assertEquals(List.of("a@example.com", "b@example.com"), emails);
+    }
+
+    @Test
+    void login_ShouldReturnTokenForClientIp() {
+        LoginRequestDto loginRequestDto = new LoginRequestDto("test@example.com", "password");
+        LoginResponseDto loginResponse = new LoginResponseDto(userId, "token", LocalDateTime.now());
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("10.0.0.1");
+        when(userService.login(loginRequestDto, "10.0.0.1")).thenReturn(loginResponse);
+
+        ResponseEntity<LoginResponseDto> response = userController.login(loginRequestDto, request).join();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(loginResponse, response.getBody());
+        verify(userService, times(1)).login(loginRequestDto, "10.0.0.1");
+    }
+
+    @Test
+    void logout_ShouldRevokeCurrentToken() {
+        TokenClaimsDto claims = new TokenClaimsDto("test@example.com", "jti", userId, 0, Instant.now(), Instant.now());
+
+        ResponseEntity<Void> response = userController.logout(claims);
+
+        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+        verify(userService, times(1)).logout(claims);
+    }
+
+    @Test
+    void revokeTokens_ShouldReturnNoContent() {
+        ResponseEntity<Void> response = userController.revokeTokens(userId);
+
+        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+        verify(userService, times(1)).revokeTokens(userId);
+    }
+
+    @Test
+    void getUserById_ShouldReturnSerializedUserWithEtag() {
+        byte[] json = "{\"name\":\"Test User\"}".getBytes(StandardCharsets.UTF_8);
+        when(userService.findSerializedById(userId)).thenReturn(new SerializedUserDto(json, "\"v1\""));
+
+        ResponseEntity<byte[]> response = userController.getUserById(userId, null).join();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertEquals("\"v1\"", response.getHeaders().getETag());
+        assertArrayEquals(json, response.getBody());
+        verify(userService, times(1)).findSerializedById(userId);
+    }
+
+    @Test
+    void getUserById_ShouldReturnNotModified_WhenEtagMatches() {
+        byte[] json = "{\"name\":\"Test User\"}".getBytes(StandardCharsets.UTF_8);
+        when(userService.findSerializedById(userId)).thenReturn(new SerializedUserDto(json, "\"v1\""));
+
+        ResponseEntity<byte[]> response = userController.getUserById(userId, "\"v0\", W/\"v1\"").join();
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+
+    @Test
+    void getAllUsers_ShouldReturnPageOfUsers() {
+        List<UserResponseDto> users = new ArrayList<>();
+        users.add(new UserResponseDto(userId, "Test User", "test@example.com", null, null, null, true));
+        CursorPageDto<UserResponseDto> page = new CursorPageDto<>(users, "next");
+        when(userService.findPage(null, 20)).thenReturn(page);
+
+        ResponseEntity<CursorPageDto<UserResponseDto>> response = userController.getAllUsers(null, 20);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(page, response.getBody());
+        verify(userService, times(1)).findPage(null, 20);
+    }
+
+    @Test
+    void searchUsers_ShouldReturnPageOfMatchingUsers() {
+        UserSearchCriteriaDto criteria = new UserSearchCriteriaDto();
+        criteria.setEmail("test@");
+        CursorPageDto<UserResponseDto> page = new CursorPageDto<>(
+                List.of(new UserResponseDto(userId, "Test User", "test@example.com", null, null, null, true)), null);
+        when(userService.searchUsers(criteria, null, 20)).thenReturn(page);
 
-        ResponseEntity<User> response = userController.getUserById(userId);
+        ResponseEntity<CursorPageDto<UserResponseDto>> response = userController.searchUsers(criteria, null, 20);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(user, response.getBody());
-        verify(userService, times(1)).findById(userId);
+        assertEquals(page, response.getBody());
     }
 
     @Test
-    void getAllUsers_ShouldReturnListOfUsers() {
-        List<User> users = new ArrayList<>();
-        users.add(user);
-        when(userService.findAll()).thenReturn(users);
+    void getChanges_ShouldReturnChangesAfterPosition() {
+        UserChangeFeedDto feed = new UserChangeFeedDto(List.of(new UserChangeDto(8, userId, UserChangeDto.DELETED,
+                LocalDateTime.now(), null)), 8);
+        when(userChangeService.findChanges(7, 100)).thenReturn(feed);
 
-        ResponseEntity<List<User>> response = userController.getAllUsers();
+        ResponseEntity<UserChangeFeedDto> response = userController.getChanges(7, 100);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(users, response.getBody());
-        verify(userService, times(1)).findAll();
+        assertEquals(feed, response.getBody());
+    }
+
+    @Test
+    void getUserById_ShouldThrowServiceBusyException_WhenRequestExecutorIsSaturated() {
+        UserController saturatedController = new UserController(userService, bulkUserRegistrationService,
+                userChangeService, objectMapper, command -> {
+                    throw new RejectedExecutionException();
+                });
+
+        assertThrows(ServiceBusyException.class, () -> saturatedController.getUserById(userId, null));
+        verify(userService, never()).findSerializedById(any(UUID.class));
     }
 
     @Test
     void updateUser_ShouldReturnUpdatedUser() {
-        when(userService.updateUser(any(UUID.class), any(UserRequestDto.class))).thenReturn(user);
+        when(userService.updateUser(any(UUID.class), any(UserRequestDto.class), isNull())).thenReturn(user);
 
-        ResponseEntity<User> response = userController.updateUser(userId, userRequestDto);
+        ResponseEntity<UserResponseDto> response = userController.updateUser(userId, userRequestDto, null, null).join();
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(user, response.getBody());
-        verify(userService, times(1)).updateUser(userId, userRequestDto);
+        assertEquals(userId, response.getBody().getId());
+        assertNull(response.getBody().getToken());
+        verify(userService, times(1)).updateUser(userId, userRequestDto, null);
+    }
+
+    @Test
+    void updateUser_ShouldRespondConflict_WhenIfMatchIsStale() throws Exception {
+        String staleEtag = "\"1.c3RhbGU\"";
+        when(userService.updateUser(eq(userId), any(UserRequestDto.class), eq(staleEtag)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(User.class, userId));
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(userController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        MvcResult result = mockMvc.perform(put("/api/v1/users/" + userId)
+                        .header(HttpHeaders.IF_MATCH, staleEtag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(userRequestDto)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isConflict())
+                .andExpect(content().string("El usuario fue modificado por otra solicitud, vuelva a intentarlo"));
+    }
+
+    @Test
+    void patchUser_ShouldReturnPatchedUser() {
+        ObjectNode patch = new ObjectMapper().createObjectNode().put("name", "Patched User");
+        when(userService.patchUser(userId, patch, "\"0.ZXRhZw\"")).thenReturn(user);
+
+        ResponseEntity<UserResponseDto> response = userController.patchUser(userId, patch, "\"0.ZXRhZw\"").join();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(userId, response.getBody().getId());
+        verify(userService, times(1)).patchUser(userId, patch, "\"0.ZXRhZw\"");
     }
 
     @Test
@@ -94,4 +325,16 @@ class UserControllerTest {
         assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
         verify(userService, times(1)).deleteUser(userId);
     }
+
+    @Test
+    void deleteUsers_ShouldReturnDeletedCount() {
+        List<UUID> ids = List.of(userId, UUID.randomUUID());
+        when(userService.deleteUsers(ids)).thenReturn(new BulkDeleteResultDto(2, 1));
+
+        ResponseEntity<BulkDeleteResultDto> response = userController.deleteUsers(ids);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(2, response.getBody().getRequested());
+        assertEquals(1, response.getBody().getDeleted());
+    }
 }
@@ -0,0 +1,77 @@
+package com.desafioTecnico.filters;
+
+import com.desafioTecnico.dtos.TokenClaimsDto;
+import com.desafioTecnico.exceptions.InvalidTokenException;
+import com.desafioTecnico.services.TokenService;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class JwtAuthenticationFilterTest {
+
+    private final TokenService tokenService = mock(TokenService.class);
+
+    private final JwtAuthenticationFilter filter = new JwtAuthenticationFilter(tokenService);
+
+    @Test
+    void doFilter_ShouldRejectRequestWithoutToken() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertEquals(HttpStatus.UNAUTHORIZED.value(), response.getStatus());
+        assertEquals("Bearer", response.getHeader("WWW-Authenticate"));
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void doFilter_ShouldRejectInvalidToken() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users");
+        request.addHeader("Authorization", "Bearer invalido");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        when(tokenService.verifyToken("invalido")).thenThrow(new InvalidTokenException("El token de acceso no es válido"));
+
+        filter.doFilter(request, response, new MockFilterChain());
+
+        assertEquals(HttpStatus.UNAUTHORIZED.value(), response.getStatus());
+        assertEquals("El token de acceso no es válido", response.getContentAsString());
+    }
+
+    @Test
+    void doFilter_ShouldExposeClaimsOfValidToken() throws Exception {
+        TokenClaimsDto claims = new TokenClaimsDto("jerry@gmail.com", "jti", UUID.randomUUID(), 0,
+                Instant.now(), Instant.now().plusSeconds(60));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users");
+        request.addHeader("Authorization", "Bearer valido");
+        MockFilterChain chain = new MockFilterChain();
+        when(tokenService.verifyToken("valido")).thenReturn(claims);
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertSame(request, chain.getRequest());
+        assertSame(claims, request.getAttribute(JwtAuthenticationFilter.CLAIMS_ATTRIBUTE));
+    }
+
+    @Test
+    void doFilter_ShouldNotRequireTokenForRegisterAndLogin() throws Exception {
+        for (String path : new String[]{"/api/v1/users/register", "/api/v1/users/login"}) {
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+            MockFilterChain chain = new MockFilterChain();
+
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+            assertSame(request, chain.getRequest());
+        }
+        verifyNoInteractions(tokenService);
+    }
+}
@@ -0,0 +1,76 @@
+package com.desafioTecnico.filters;
+
+import com.desafioTecnico.components.RequestProfile;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestProfilingFilterTest {
+
+    private final RequestProfilingFilter filter = new RequestProfilingFilter(0.0, 500, 20);
+
+    @Test
+    void doFilter_ShouldReturnServerTimingWhenProfileIsRequested() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users");
+        request.addHeader(RequestProfilingFilter.PROFILE_HEADER, "true");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain(new ProfiledServlet()));
+
+        String serverTiming = response.getHeader("Server-Timing");
+        assertNotNull(serverTiming);
+        assertTrue(serverTiming.startsWith("db;desc=\"sentencias=1\";dur=2.00"));
+        assertTrue(serverTiming.contains("ser;dur=1.00"));
+        assertEquals("{}", response.getContentAsString());
+        assertNull(RequestProfile.current());
+    }
+
+    @Test
+    void doFilter_ShouldNotProfileRequestsWithoutHeader() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain(new ProfiledServlet());
+
+        filter.doFilter(request, response, chain);
+
+        assertNull(response.getHeader("Server-Timing"));
+        assertNull(request.getAttribute(RequestProfilingFilter.PROFILE_ATTRIBUTE));
+        assertSame(response, chain.getResponse());
+        assertEquals("{}", response.getContentAsString());
+    }
+
+    @Test
+    void doFilter_ShouldProfileSampledRequests() throws Exception {
+        RequestProfilingFilter sampling = new RequestProfilingFilter(1.0, 500, 20);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        sampling.doFilter(request, response, new MockFilterChain(new ProfiledServlet()));
+
+        assertNotNull(response.getHeader("Server-Timing"));
+    }
+
+    /**
+     * Servlet que simula una sentencia SQL y una serialización, si la solicitud se está perfilando.
+     */
+    private static class ProfiledServlet extends HttpServlet {
+
+        @Override
+        protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            RequestProfile profile = RequestProfile.current();
+            if (profile != null) {
+                profile.recordStatement(2_000_000);
+                profile.recordSerialization(1_000_000);
+            }
+            response.getWriter().write("{}");
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.desafioTecnico.models;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeOrderedUuidGeneratorTest {
+
+    @Test
+    void next_ShouldReturnVersion7Uuid() {
+        UUID uuid = TimeOrderedUuidGenerator.next();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+    }
+
+    @Test
+    void next_ShouldEncodeCurrentTimestampInMostSignificantBits() {
+        long before = System.currentTimeMillis();
+        UUID uuid = TimeOrderedUuidGenerator.next();
+        long after = System.currentTimeMillis();
+
+        long timestamp = uuid.getMostSignificantBits() >>> 16;
+        assertTrue(timestamp >= before && timestamp <= after);
+    }
+
+    @Test
+    void next_ShouldOrderUuidsGeneratedInDifferentMilliseconds() throws InterruptedException {
+        UUID first = TimeOrderedUuidGenerator.next();
+        Thread.sleep(2);
+        UUID second = TimeOrderedUuidGenerator.next();
+
+        assertTrue(Long.compareUnsigned(first.getMostSignificantBits(), second.getMostSignificantBits()) < 0);
+    }
+}
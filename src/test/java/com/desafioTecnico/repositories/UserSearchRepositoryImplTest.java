@@ -0,0 +1,95 @@
+package com.desafioTecnico.repositories;
+
+import com.desafioTecnico.dtos.UserResponseDto;
+import com.desafioTecnico.dtos.UserSearchCriteriaDto;
+import com.desafioTecnico.models.Phone;
+import com.desafioTecnico.models.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class UserSearchRepositoryImplTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void search_ShouldFilterByEmailPrefixEscapingWildcards() {
+        save("Ana", "search_a@example.com", BASE, true, "5550001");
+        save("Beto", "searchXa@example.com", BASE, true, "5550002");
+
+        List<String> emails = emails(userRepository.search(criteria(c -> c.setEmail("search_")), null, null, 10));
+
+        assertEquals(List.of("search_a@example.com"), emails);
+    }
+
+    @Test
+    void search_ShouldCombineNameDateAndActiveFilters() {
+        save("Carla Search", "carla-search@example.com", BASE.plusDays(1), true, "5550003");
+        save("Carlos Search", "carlos-search@example.com", BASE.plusDays(2), false, "5550004");
+        save("Carmen Search", "carmen-search@example.com", BASE.plusDays(10), true, "5550005");
+
+        List<String> emails = emails(userRepository.search(criteria(c -> {
+            c.setName("Car");
+            c.setCreatedFrom(BASE);
+            c.setCreatedTo(BASE.plusDays(5));
+            c.setActive(true);
+        }), null, null, 10));
+
+        assertEquals(List.of("carla-search@example.com"), emails);
+    }
+
+    @Test
+    void search_ShouldFindUsersByPhoneAndPaginateByKeyset() {
+        User first = save("Phone One", "phone-one@example.com", BASE.plusDays(20), true, "5559999");
+        save("Phone Two", "phone-two@example.com", BASE.plusDays(21), true, "5559999");
+        save("Phone Other", "phone-other@example.com", BASE.plusDays(22), true, "5558888");
+
+        UserSearchCriteriaDto byPhone = criteria(c -> {
+            c.setNumber("5559999");
+            c.setCityCode("1");
+        });
+        List<UserResponseDto> firstPage = userRepository.search(byPhone, null, null, 1);
+        List<UserResponseDto> secondPage = userRepository.search(byPhone, first.getCreated(), first.getId(), 10);
+
+        assertEquals(List.of("phone-one@example.com"), emails(firstPage));
+        assertEquals(List.of("phone-two@example.com"), emails(secondPage));
+    }
+
+    @Test
+    void findEmailsStartingWith_ShouldReturnSortedSuggestions() {
+        save("Zoe", "suggest-b@example.com", BASE, true, "5550006");
+        save("Yan", "suggest-a@example.com", BASE, true, "5550007");
+
+        assertEquals(List.of("suggest-a@example.com", "suggest-b@example.com"),
+                userRepository.findEmailsStartingWith("suggest-", PageRequest.of(0, 10)));
+    }
+
+    private User save(String name, String email, LocalDateTime created, boolean active, String number) {
+        List<Phone> phones = new ArrayList<>(List.of(new Phone(null, number, "1", "56")));
+        return userRepository.save(new User(null, name, email, "hash", phones, created, created, null, null,
+                active, 0, null, null));
+    }
+
+    private static UserSearchCriteriaDto criteria(Consumer<UserSearchCriteriaDto> filters) {
+        UserSearchCriteriaDto criteria = new UserSearchCriteriaDto();
+        filters.accept(criteria);
+        return criteria;
+    }
+
+    private static List<String> emails(List<UserResponseDto> users) {
+        return users.stream().map(UserResponseDto::getEmail).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,69 @@
+package com.desafioTecnico.services.impl;
+
+import com.desafioTecnico.exceptions.ServiceBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BCryptPasswordHashServiceTest {
+
+    private ThreadPoolExecutor executor;
+
+    private BCryptPasswordHashService passwordHashService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1),
+                new ThreadPoolExecutor.AbortPolicy());
+        meterRegistry = new SimpleMeterRegistry();
+        passwordHashService = new BCryptPasswordHashService(executor, 4, 5000, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void hash_ShouldProduceVerifiableHashWithConfiguredCost() {
+        String hash = passwordHashService.hash("P@ssw0rd123");
+
+        assertTrue(hash.startsWith("$2a$04$"));
+        assertTrue(passwordHashService.matches("P@ssw0rd123", hash));
+        assertFalse(passwordHashService.matches("otraClave1@", hash));
+        assertEquals(1, meterRegistry.get("user.password.bcrypt").tag("operation", "hash").timer().count());
+        assertEquals(2, meterRegistry.get("user.password.bcrypt").tag("operation", "verify").timer().count());
+    }
+
+    @Test
+    void hash_ShouldThrowServiceBusyException_WhenPoolIsSaturated() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> awaitQuietly(release));
+        executor.execute(() -> awaitQuietly(release));
+
+        try {
+            assertThrows(ServiceBusyException.class, () -> passwordHashService.hash("P@ssw0rd123"));
+            assertEquals(1, meterRegistry.counter("user.password.bcrypt.rejected").count());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.desafioTecnico.services.impl;
+
+import com.desafioTecnico.components.EmailIndex;
+import com.desafioTecnico.dtos.BulkRegistrationItemDto;
+import com.desafioTecnico.dtos.BulkRegistrationResultDto;
+import com.desafioTecnico.dtos.PhoneDto;
+import com.desafioTecnico.dtos.UserRequestDto;
+import com.desafioTecnico.models.User;
+import com.desafioTecnico.repositories.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.doReturn;
+
+@SpringBootTest
+class BulkUserRegistrationServiceImplTest {
+
+    @Autowired
+    private BulkUserRegistrationServiceImpl bulkUserRegistrationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @SpyBean
+    private EmailIndex emailIndex;
+
+    @Test
+    void registerUsers_ShouldInsertValidUsersAndReportRejectedOnes() {
+        List<UserRequestDto> requests = List.of(
+                request("bulk-ok@example.com", "P@ssw0rd123"),
+                request("bulk-weak@example.com", "password"),
+                request("bulk-ok@example.com", "P@ssw0rd123"),
+                request("not-an-email", "P@ssw0rd123"));
+
+        BulkRegistrationResultDto result = bulkUserRegistrationService.registerUsers(requests.iterator());
+
+        assertEquals(4, result.getTotal());
+        assertEquals(1, result.getCreated());
+        assertEquals(3, result.getRejected());
+        assertFalse(result.isTruncated());
+
+        BulkRegistrationItemDto created = result.getResults().get(0);
+        assertEquals(BulkRegistrationItemDto.CREATED, created.getStatus());
+        assertEquals(BulkRegistrationItemDto.REJECTED, result.getResults().get(1).getStatus());
+        assertEquals("El correo está repetido en la solicitud", result.getResults().get(2).getError());
+        assertEquals(BulkRegistrationItemDto.REJECTED, result.getResults().get(3).getStatus());
+
+        User user = userRepository.findWithPhonesById(created.getId()).orElseThrow();
+        assertEquals("bulk-ok@example.com", user.getEmail());
+        assertNotEquals("P@ssw0rd123", user.getPassword());
+        assertEquals(0, user.getTokenVersion());
+        assertEquals(1, user.getPhones().size());
+        assertEquals("1", user.getPhones().get(0).getCityCode());
+    }
+
+    @Test
+    void registerUsers_ShouldRejectEmailsAlreadyRegistered() {
+        bulkUserRegistrationService.registerUsers(List.of(request("bulk-existing@example.com", "P@ssw0rd123")).iterator());
+
+        BulkRegistrationResultDto result = bulkUserRegistrationService
+                .registerUsers(List.of(request("bulk-existing@example.com", "P@ssw0rd123")).iterator());
+
+        assertEquals(0, result.getCreated());
+        assertEquals("El correo ya registrado", result.getResults().get(0).getError());
+    }
+
+    @Test
+    void registerUsers_ShouldReportDuplicateEmail_WhenEmailIndexMissesRegisteredEmail() {
+        bulkUserRegistrationService.registerUsers(List.of(request("bulk-missed@example.com", "P@ssw0rd123")).iterator());
+        doReturn(false).when(emailIndex).mightContain("bulk-missed@example.com");
+
+        BulkRegistrationResultDto result = bulkUserRegistrationService.registerUsers(List.of(
+                request("bulk-missed@example.com", "P@ssw0rd123"),
+                request("bulk-after-missed@example.com", "P@ssw0rd123")).iterator());
+
+        assertEquals(1, result.getCreated());
+        assertEquals("El correo ya registrado", result.getResults().get(0).getError());
+        assertEquals(BulkRegistrationItemDto.CREATED, result.getResults().get(1).getStatus());
+    }
+
+    @Test
+    void registerUsers_ShouldReportCause_WhenIntegrityViolationIsNotDuplicateEmail() {
+        UserRequestDto longPhone = new UserRequestDto("Bulk User", "bulk-long-phone@example.com", "P@ssw0rd123", true,
+                List.of(new PhoneDto("9".repeat(300), "1", "56")));
+
+        BulkRegistrationResultDto result = bulkUserRegistrationService.registerUsers(List.of(longPhone).iterator());
+
+        assertEquals(0, result.getCreated());
+        String error = result.getResults().get(0).getError();
+        assertTrue(error.startsWith("No se pudo registrar el usuario: "), error);
+    }
+
+    @Test
+    void registerUsers_ShouldReturnPartialReport_WhenRecordIsMalformed() throws Exception {
+        String ndjson = "{\"name\":\"Bulk User\",\"email\":\"bulk-before-malformed@example.com\","
+                + "\"password\":\"P@ssw0rd123\",\"phones\":[{\"number\":\"123456789\",\"citycode\":\"1\","
+                + "\"contrycode\":\"56\"}]}\n"
+                + "{\"name\":\"Bulk User\",\"email\":\n";
+        Iterator<UserRequestDto> requests = new ObjectMapper().readerFor(UserRequestDto.class).readValues(ndjson);
+
+        BulkRegistrationResultDto result = bulkUserRegistrationService.registerUsers(requests);
+
+        assertEquals(2, result.getTotal());
+        assertEquals(1, result.getCreated());
+        assertTrue(result.isTruncated());
+        assertEquals(BulkRegistrationItemDto.CREATED, result.getResults().get(0).getStatus());
+        BulkRegistrationItemDto malformed = result.getResults().get(1);
+        assertEquals(1, malformed.getIndex());
+        assertEquals(BulkRegistrationItemDto.REJECTED, malformed.getStatus());
+        assertTrue(malformed.getError().startsWith("El registro no es un JSON válido"), malformed.getError());
+        assertTrue(userRepository.findByEmail("bulk-before-malformed@example.com").isPresent());
+    }
+
+    private UserRequestDto request(String email, String password) {
+        return new UserRequestDto("Bulk User", email, password, true, List.of(new PhoneDto("123456789", "1", "56")));
+    }
+}
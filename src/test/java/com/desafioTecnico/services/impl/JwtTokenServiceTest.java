@@ -0,0 +1,95 @@
+package com.desafioTecnico.services.impl;
+
+import com.desafioTecnico.components.JwtKeyRing;
+import com.desafioTecnico.components.TokenRevocationList;
+import com.desafioTecnico.configuration.JwtProperties;
+import com.desafioTecnico.dtos.TokenClaimsDto;
+import com.desafioTecnico.exceptions.InvalidTokenException;
+import com.desafioTecnico.repositories.UserRepository;
+import org.junit.jupiter.api.Test;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class JwtTokenServiceTest {
+
+    private static final String KEY_1 = randomKey();
+
+    private static final String KEY_2 = randomKey();
+
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    @Test
+    void verifyToken_ShouldReturnClaimsOfGeneratedToken() {
+        JwtTokenService tokenService = tokenService("k1", 3600, "k1", KEY_1);
+
+        String token = tokenService.generateToken(USER_ID, "jerry@gmail.com", 0);
+        TokenClaimsDto claims = tokenService.verifyToken(token);
+
+        assertEquals("jerry@gmail.com", claims.getSubject());
+        assertEquals(USER_ID, claims.getUserId());
+        assertEquals(0, claims.getTokenVersion());
+        assertNotNull(claims.getTokenId());
+        assertTrue(claims.getExpiresAt().isAfter(claims.getIssuedAt()));
+        assertSame(claims, tokenService.verifyToken(token));
+    }
+
+    @Test
+    void verifyToken_ShouldAcceptTokensSignedWithRotatedKey() {
+        String token = tokenService("k1", 3600, "k1", KEY_1).generateToken(USER_ID, "jerry@gmail.com", 0);
+
+        JwtTokenService rotated = tokenService("k2", 3600, "k1", KEY_1, "k2", KEY_2);
+
+        assertEquals("jerry@gmail.com", rotated.verifyToken(token).getSubject());
+    }
+
+    @Test
+    void verifyToken_ShouldRejectTokensSignedWithRemovedKey() {
+        String token = tokenService("k1", 3600, "k1", KEY_1).generateToken(USER_ID, "jerry@gmail.com", 0);
+
+        JwtTokenService rotated = tokenService("k2", 3600, "k2", KEY_2);
+
+        assertThrows(InvalidTokenException.class, () -> rotated.verifyToken(token));
+    }
+
+    @Test
+    void verifyToken_ShouldRejectTamperedToken() {
+        JwtTokenService tokenService = tokenService("k1", 3600, "k1", KEY_1);
+        String token = tokenService.generateToken(USER_ID, "jerry@gmail.com", 0);
+        String[] parts = token.split("\\.");
+        String payload = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("{\"sub\":\"otro@gmail.com\"}".getBytes());
+
+        assertThrows(InvalidTokenException.class,
+                () -> tokenService.verifyToken(parts[0] + "." + payload + "." + parts[2]));
+    }
+
+    @Test
+    void verifyToken_ShouldRejectExpiredToken() {
+        JwtTokenService tokenService = tokenService("k1", 0, "k1", KEY_1);
+        String token = tokenService.generateToken(USER_ID, "jerry@gmail.com", 0);
+
+        assertThrows(InvalidTokenException.class, () -> tokenService.verifyToken(token));
+    }
+
+    private static JwtTokenService tokenService(String activeKeyId, long expirationSeconds, String... keys) {
+        JwtProperties properties = new JwtProperties();
+        properties.setActiveKeyId(activeKeyId);
+        properties.setExpirationSeconds(expirationSeconds);
+        for (int i = 0; i < keys.length; i += 2) {
+            properties.getKeys().put(keys[i], keys[i + 1]);
+        }
+        return new JwtTokenService(new JwtKeyRing(properties), new TokenRevocationList(mock(UserRepository.class)),
+                properties);
+    }
+
+    private static String randomKey() {
+        byte[] key = new byte[64];
+        new SecureRandom().nextBytes(key);
+        return Base64.getEncoder().encodeToString(key);
+    }
+}
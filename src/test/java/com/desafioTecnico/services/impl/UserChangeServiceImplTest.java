@@ -0,0 +1,98 @@
+package com.desafioTecnico.services.impl;
+
+import com.desafioTecnico.dtos.UserChangeDto;
+import com.desafioTecnico.dtos.UserChangeFeedDto;
+import com.desafioTecnico.dtos.UserResponseDto;
+import com.desafioTecnico.exceptions.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class UserChangeServiceImplTest {
+
+    @Autowired
+    private UserChangeServiceImpl userChangeService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void findChanges_ShouldReturnRelayedChangesInOrder() {
+        UUID userId = UUID.randomUUID();
+        UserResponseDto user = new UserResponseDto(userId, "Outbox User", "outbox@example.com", null, null, null, true);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            userChangeService.recordChange(UserChangeDto.CREATED, user);
+            userChangeService.recordDeletion(userId);
+        });
+
+        userChangeService.relayPendingChanges();
+        List<UserChangeDto> changes = changesOf(userId);
+
+        assertEquals(2, changes.size());
+        assertEquals(UserChangeDto.CREATED, changes.get(0).getType());
+        assertTrue(changes.get(0).getUser().contains("outbox@example.com"));
+        assertEquals(UserChangeDto.DELETED, changes.get(1).getType());
+        assertNull(changes.get(1).getUser());
+        assertEquals(changes.get(0).getSeq() + 1, changes.get(1).getSeq());
+    }
+
+    @Test
+    void recordChange_ShouldDiscardChange_WhenTransactionRollsBack() {
+        UUID userId = UUID.randomUUID();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            userChangeService.recordDeletion(userId);
+            status.setRollbackOnly();
+        });
+
+        userChangeService.relayPendingChanges();
+
+        assertTrue(changesOf(userId).isEmpty());
+    }
+
+    @Test
+    void findChanges_ShouldKeepPosition_WhenThereAreNoNewChanges() {
+        userChangeService.relayPendingChanges();
+        long last = lastSeq();
+
+        UserChangeFeedDto feed = userChangeService.findChanges(last, 10);
+
+        assertTrue(feed.getItems().isEmpty());
+        assertEquals(last, feed.getNextSince());
+    }
+
+    @Test
+    void findChanges_ShouldRejectNegativePosition() {
+        assertThrows(InvalidCursorException.class, () -> userChangeService.findChanges(-1, 10));
+    }
+
+    private List<UserChangeDto> changesOf(UUID userId) {
+        List<UserChangeDto> changes = new ArrayList<>();
+        long since = 0;
+        UserChangeFeedDto feed;
+        do {
+            feed = userChangeService.findChanges(since, 500);
+            feed.getItems().stream().filter(change -> userId.equals(change.getUserId())).forEach(changes::add);
+            since = feed.getNextSince();
+        } while (!feed.getItems().isEmpty());
+        return changes;
+    }
+
+    private long lastSeq() {
+        long since = 0;
+        UserChangeFeedDto feed;
+        do {
+            feed = userChangeService.findChanges(since, 500);
+            since = feed.getNextSince();
+        } while (!feed.getItems().isEmpty());
+        return since;
+    }
+}
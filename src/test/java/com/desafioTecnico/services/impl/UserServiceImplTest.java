@@ -1,27 +1,58 @@
 package com.desafioTecnico.services.impl;
 
+import com.desafioTecnico.components.EmailIndex;
+import com.desafioTecnico.components.LastLoginWriter;
+import com.desafioTecnico.dtos.BulkDeleteResultDto;
+import com.desafioTecnico.dtos.CursorPageDto;
+import com.desafioTecnico.dtos.LoginRequestDto;
+import com.desafioTecnico.dtos.LoginResponseDto;
 import com.desafioTecnico.dtos.PhoneDto;
+import com.desafioTecnico.dtos.SerializedUserDto;
+import com.desafioTecnico.dtos.TokenClaimsDto;
+import com.desafioTecnico.dtos.UserChangeDto;
 import com.desafioTecnico.dtos.UserRequestDto;
+import com.desafioTecnico.dtos.UserResponseDto;
 import com.desafioTecnico.exceptions.EmailValidationException;
+import com.desafioTecnico.exceptions.InvalidCredentialsException;
+import com.desafioTecnico.exceptions.InvalidCursorException;
+import com.desafioTecnico.exceptions.InvalidPatchException;
+import com.desafioTecnico.exceptions.InvalidTokenException;
+import com.desafioTecnico.exceptions.UserNotFoundException;
+import com.desafioTecnico.models.Phone;
 import com.desafioTecnico.models.User;
+import com.desafioTecnico.repositories.UserCredentialsView;
 import com.desafioTecnico.repositories.UserRepository;
-import org.junit.jupiter.api.BeforeEach;
+import com.desafioTecnico.services.PasswordHashService;
+import com.desafioTecnico.services.TokenService;
+import com.desafioTecnico.services.UserChangeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
+import org.mindrot.jbcrypt.BCrypt;
 import org.mockito.Mock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @SpringBootTest
@@ -30,13 +61,26 @@ class UserServiceImplTest {
     @MockBean
     private UserRepository userRepository;
 
+    @MockBean
+    private LastLoginWriter lastLoginWriter;
+
+    @MockBean
+    private UserChangeService userChangeService;
+
     @Autowired
     private UserServiceImpl userService;
 
-    @BeforeEach
-    void setUp() {
-        ReflectionTestUtils.setField(userService, "passwordRegex", "^(?=.*[0-9])(?=.*[a-zA-Z])(?=.*[@#$%^&+=]).{8,20}$");
-    }
+    @SpyBean
+    private EmailIndex emailIndex;
+
+    @SpyBean
+    private PasswordHashService passwordHashService;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
 
     @Test
     void registerUser_ShouldRegisterUser_WhenEmailIsUnique() {
@@ -53,8 +97,9 @@ class UserServiceImplTest {
         userToSave.setModified(LocalDateTime.now());
         userToSave.setLastLogin(LocalDateTime.now());
 
-        when(userRepository.findByEmail(userRequestDto.getEmail())).thenReturn(Optional.empty());
+        when(userRepository.existsByEmail(userRequestDto.getEmail())).thenReturn(false);
         when(userRepository.save(any(User.class))).thenReturn(userToSave);
+        long registrations = meterRegistry.get("user.registration").tag("stage", "persist").timer().count();
 
         User registeredUser = userService.registerUser(userRequestDto);
 
@@ -62,40 +107,149 @@ class UserServiceImplTest {
         assertEquals(userRequestDto.getName(), registeredUser.getName());
         assertEquals(userRequestDto.getEmail(), registeredUser.getEmail());
         verify(userRepository).save(any(User.class));
+        verify(userChangeService).recordChange(eq(UserChangeDto.CREATED), any(UserResponseDto.class));
+        for (String stage : List.of("validation", "hash", "token", "persist")) {
+            assertEquals(registrations + 1, meterRegistry.get("user.registration").tag("stage", stage).timer().count());
+        }
     }
 
 
     @Test
     void registerUser_ShouldThrowEmailValidationException_WhenEmailExists() {
         UserRequestDto userRequestDto = new UserRequestDto("Jerry Támara", "jerry@gmail.com", "Password123!", true, new ArrayList<>());
-        User existingUser = new User();
-        existingUser.setEmail("jerry@gmail.com");
+        emailIndex.add("jerry@gmail.com");
 
-        when(userRepository.findByEmail("jerry@gmail.com")).thenReturn(Optional.of(existingUser));
+        when(userRepository.existsByEmail("jerry@gmail.com")).thenReturn(true);
 
         assertThrows(EmailValidationException.class, () -> userService.registerUser(userRequestDto));
         verify(userRepository, never()).save(any(User.class));
     }
 
+    @Test
+    void registerUser_ShouldSkipExistenceQuery_WhenEmailIndexRulesOutDuplicate() {
+        List<PhoneDto> phones = new ArrayList<>();
+        phones.add(new PhoneDto("123456789", "1", "123"));
+        UserRequestDto userRequestDto = new UserRequestDto("Nuevo Usuario", "nunca-registrado@gmail.com", "P@ssw0rd123", true, phones);
+
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        userService.registerUser(userRequestDto);
+
+        verify(userRepository, never()).existsByEmail("nunca-registrado@gmail.com");
+        assertTrue(emailIndex.mightContain("nunca-registrado@gmail.com"));
+    }
+
+    @Test
+    void registerUser_ShouldHashPasswordBeforeOpeningTransaction() {
+        List<PhoneDto> phones = new ArrayList<>();
+        phones.add(new PhoneDto("123456789", "1", "123"));
+        UserRequestDto userRequestDto = new UserRequestDto("Jerry Támara", "sin-conexion@gmail.com", "P@ssw0rd123", true, phones);
+        AtomicBoolean hashedInTransaction = new AtomicBoolean(true);
+        doAnswer(invocation -> {
+            hashedInTransaction.set(TransactionSynchronizationManager.isActualTransactionActive());
+            return invocation.callRealMethod();
+        }).when(passwordHashService).hash(anyString());
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        userService.registerUser(userRequestDto);
+
+        assertFalse(hashedInTransaction.get());
+        verify(userRepository).save(any(User.class));
+    }
+
+    @Test
+    void updateUser_ShouldHashPasswordBeforeOpeningTransaction() {
+        UUID userId = UUID.randomUUID();
+        User existingUser = userWithPhones(userId);
+        AtomicBoolean hashedInTransaction = new AtomicBoolean(true);
+        doAnswer(invocation -> {
+            hashedInTransaction.set(TransactionSynchronizationManager.isActualTransactionActive());
+            return invocation.callRealMethod();
+        }).when(passwordHashService).hash(anyString());
+        when(userRepository.findById(userId)).thenReturn(Optional.of(existingUser));
+        when(userRepository.save(existingUser)).thenReturn(existingUser);
+
+        userService.updateUser(userId, new UserRequestDto(null, "patch@gmail.com", "N3w@Passw0rd", null, null), null);
+
+        assertFalse(hashedInTransaction.get());
+        assertEquals(1, existingUser.getTokenVersion());
+    }
+
+    @Test
+    void registerUser_ShouldThrowEmailValidationException_WhenEmailIndexMissesRegisteredEmail() {
+        List<PhoneDto> phones = new ArrayList<>();
+        phones.add(new PhoneDto("123456789", "1", "123"));
+        UserRequestDto userRequestDto = new UserRequestDto("Jerry Támara", "concurrente@gmail.com", "P@ssw0rd123", true, phones);
+
+        doReturn(false).when(emailIndex).mightContain("concurrente@gmail.com");
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        doThrow(duplicateEmailViolation()).when(userRepository).flush();
+
+        EmailValidationException exception = assertThrows(EmailValidationException.class,
+                () -> userService.registerUser(userRequestDto));
+        assertEquals("El correo ya registrado", exception.getMessage());
+        verify(userRepository, never()).existsByEmail("concurrente@gmail.com");
+    }
+
     @Test
     void findById_ShouldReturnUser_WhenUserExists() {
         UUID userId = UUID.randomUUID();
         User user = new User();
         user.setId(userId);
 
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(userRepository.findWithPhonesById(userId)).thenReturn(Optional.of(user));
 
         User result = userService.findById(userId);
         assertEquals(userId, result.getId());
     }
 
     @Test
-    void findById_ShouldThrowRuntimeException_WhenUserNotFound() {
+    void findById_ShouldThrowUserNotFoundException_WhenUserNotFound() {
+        UUID userId = UUID.randomUUID();
+
+        when(userRepository.findWithPhonesById(userId)).thenReturn(Optional.empty());
+
+        assertThrows(UserNotFoundException.class, () -> userService.findById(userId));
+    }
+
+    @Test
+    void findSerializedById_ShouldServeRepeatedReadsFromCache() {
+        UUID userId = UUID.randomUUID();
+        User user = new User();
+        user.setId(userId);
+        user.setName("Jerry Támara");
+
+        when(userRepository.findWithPhonesById(userId)).thenReturn(Optional.of(user));
+
+        SerializedUserDto first = userService.findSerializedById(userId);
+        SerializedUserDto second = userService.findSerializedById(userId);
+
+        assertSame(first, second);
+        String json = new String(first.getJson(), StandardCharsets.UTF_8);
+        assertTrue(json.contains("Jerry Támara"));
+        assertFalse(json.contains("password"));
+        verify(userRepository, times(1)).findWithPhonesById(userId);
+    }
+
+    @Test
+    void updateUser_ShouldInvalidateCachedResponse() {
         UUID userId = UUID.randomUUID();
+        User user = new User();
+        user.setId(userId);
+        user.setName("Old Name");
+        user.setEmail("cached@gmail.com");
+
+        when(userRepository.findWithPhonesById(userId)).thenReturn(Optional.of(user));
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(userRepository.save(user)).thenReturn(user);
 
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+        SerializedUserDto cached = userService.findSerializedById(userId);
+        userService.updateUser(userId, new UserRequestDto("New Name", "cached@gmail.com", null, null, null), null);
+        SerializedUserDto refreshed = userService.findSerializedById(userId);
 
-        assertThrows(RuntimeException.class, () -> userService.findById(userId));
+        assertTrue(new String(refreshed.getJson(), StandardCharsets.UTF_8).contains("New Name"));
+        assertNotEquals(cached.getEtag(), refreshed.getEtag());
+        verify(userRepository, times(2)).findWithPhonesById(userId);
     }
 
     @Test
@@ -110,20 +264,252 @@ class UserServiceImplTest {
         when(userRepository.findById(userId)).thenReturn(Optional.of(existingUser));
         when(userRepository.save(existingUser)).thenReturn(existingUser);
 
-        User updatedUser = userService.updateUser(userId, userRequestDto);
+        User updatedUser = userService.updateUser(userId, userRequestDto, null);
 
         assertEquals("Jerry Támara", updatedUser.getName());
         assertEquals("jerry@gmail.com", updatedUser.getEmail());
         verify(userRepository).save(existingUser);
+        verify(userChangeService).recordChange(eq(UserChangeDto.UPDATED), any(UserResponseDto.class));
+    }
+
+    @Test
+    void updateUser_ShouldThrowOptimisticLockingFailure_WhenIfMatchIsStale() {
+        UUID userId = UUID.randomUUID();
+        User existingUser = new User();
+        existingUser.setId(userId);
+        existingUser.setEmail("old@gmail.com");
+        existingUser.setVersion(3L);
+        when(userRepository.findById(userId)).thenReturn(Optional.of(existingUser));
+
+        assertThrows(OptimisticLockingFailureException.class, () -> userService.updateUser(userId,
+                new UserRequestDto("New Name", "old@gmail.com", null, null, null), "\"2.c2VsbG8\""));
+        assertNull(existingUser.getName());
+        verify(userRepository, never()).save(any(User.class));
+    }
+
+    @Test
+    void patchUser_ShouldApplyChange_WhenIfMatchHasCurrentVersion() throws Exception {
+        UUID userId = UUID.randomUUID();
+        User existingUser = userWithPhones(userId, new Phone(1L, "111", "1", "56"));
+        existingUser.setVersion(3L);
+        when(userRepository.findWithPhonesById(userId)).thenReturn(Optional.of(existingUser));
+        when(userRepository.save(existingUser)).thenReturn(existingUser);
+        String etag = userService.findSerializedById(userId).getEtag();
+
+        User patchedUser = userService.patchUser(userId, new ObjectMapper().readTree("{\"name\":\"Nuevo Nombre\"}"), etag);
+
+        assertTrue(etag.startsWith("\"3."));
+        assertEquals("Nuevo Nombre", patchedUser.getName());
+    }
+
+    @Test
+    void patchUser_ShouldOnlyChangeName_WhenPatchContainsName() throws Exception {
+        UUID userId = UUID.randomUUID();
+        User existingUser = userWithPhones(userId, new Phone(1L, "111", "1", "56"));
+        when(userRepository.findWithPhonesById(userId)).thenReturn(Optional.of(existingUser));
+        when(userRepository.save(existingUser)).thenReturn(existingUser);
+
+        User patchedUser = userService.patchUser(userId, new ObjectMapper().readTree("{\"name\":\"Nuevo Nombre\"}"), null);
+
+        assertEquals("Nuevo Nombre", patchedUser.getName());
+        assertEquals("patch@gmail.com", patchedUser.getEmail());
+        assertEquals("hash", patchedUser.getPassword());
+        assertEquals(1, patchedUser.getPhones().size());
+        assertNotNull(patchedUser.getModified());
     }
 
     @Test
-    void deleteUser_ShouldCallDeleteById_WhenUserExists() {
+    void patchUser_ShouldDiffPhonesByNumber_WhenPatchContainsPhones() throws Exception {
         UUID userId = UUID.randomUUID();
+        Phone kept = new Phone(1L, "111", "1", "56");
+        Phone removed = new Phone(2L, "222", "2", "56");
+        User existingUser = userWithPhones(userId, kept, removed);
+        List<Phone> phones = existingUser.getPhones();
+        when(userRepository.findWithPhonesById(userId)).thenReturn(Optional.of(existingUser));
+        when(userRepository.save(existingUser)).thenReturn(existingUser);
+
+        User patchedUser = userService.patchUser(userId, new ObjectMapper().readTree("{\"phones\":["
+                + "{\"number\":\"111\",\"citycode\":\"9\",\"contrycode\":\"56\"},"
+                + "{\"number\":\"333\",\"citycode\":\"3\",\"contrycode\":\"56\"}]}"), null);
+
+        assertSame(phones, patchedUser.getPhones());
+        assertEquals(2, patchedUser.getPhones().size());
+        assertSame(kept, patchedUser.getPhones().get(0));
+        assertEquals("9", kept.getCityCode());
+        assertNull(patchedUser.getPhones().get(1).getId());
+        assertEquals("333", patchedUser.getPhones().get(1).getNumber());
+    }
+
+    @Test
+    void patchUser_ShouldThrowEmailValidationException_WhenEmailIndexMissesRegisteredEmail() throws Exception {
+        UUID userId = UUID.randomUUID();
+        User existingUser = userWithPhones(userId, new Phone(1L, "111", "1", "56"));
+        when(userRepository.findWithPhonesById(userId)).thenReturn(Optional.of(existingUser));
+        when(userRepository.save(existingUser)).thenReturn(existingUser);
+        doReturn(false).when(emailIndex).mightContain("ocupado@gmail.com");
+        doThrow(duplicateEmailViolation()).when(userRepository).flush();
+
+        assertThrows(EmailValidationException.class,
+                () -> userService.patchUser(userId, new ObjectMapper().readTree("{\"email\":\"ocupado@gmail.com\"}"), null));
+    }
+
+    @Test
+    void patchUser_ShouldThrowInvalidPatchException_WhenFieldIsUnknown() throws Exception {
+        UUID userId = UUID.randomUUID();
+        when(userRepository.findWithPhonesById(userId)).thenReturn(Optional.of(userWithPhones(userId)));
+
+        assertThrows(InvalidPatchException.class,
+                () -> userService.patchUser(userId, new ObjectMapper().readTree("{\"tokenVersion\":7}"), null));
+        verify(userRepository, never()).save(any(User.class));
+    }
+
+    @Test
+    void findPage_ShouldReturnNextCursorAndLoadPhonesInOneQuery_WhenMoreUsersExist() {
+        List<UserResponseDto> users = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            users.add(new UserResponseDto(UUID.randomUUID(), "User " + i, "user" + i + "@gmail.com",
+                    LocalDateTime.now().plusSeconds(i), null, null, true));
+        }
+
+        when(userRepository.findFirstPage(any(Pageable.class))).thenReturn(users);
+
+        CursorPageDto<UserResponseDto> page = userService.findPage(null, 2);
+
+        assertEquals(2, page.getItems().size());
+        assertNotNull(page.getNextCursor());
+        verify(userRepository, times(1)).findPhonesByUserIds(anyCollection());
+
+        UserResponseDto last = users.get(1);
+        when(userRepository.findPageAfter(eq(last.getCreated()), eq(last.getId()), any(Pageable.class)))
+                .thenReturn(new ArrayList<>(users.subList(2, 3)));
+
+        CursorPageDto<UserResponseDto> nextPage = userService.findPage(page.getNextCursor(), 2);
+
+        assertEquals(1, nextPage.getItems().size());
+        assertNull(nextPage.getNextCursor());
+    }
+
+    @Test
+    void findPage_ShouldThrowInvalidCursorException_WhenCursorIsMalformed() {
+        assertThrows(InvalidCursorException.class, () -> userService.findPage("no-es-un-cursor", 10));
+    }
+
+    @Test
+    void login_ShouldIssueTokenAndRecordLastLogin_WhenPasswordMatches() {
+        UUID userId = UUID.randomUUID();
+        UserCredentialsView credentials = credentials(userId, "login@gmail.com", "P@ssw0rd123", true);
+        when(userRepository.findCredentialsByEmail("login@gmail.com")).thenReturn(Optional.of(credentials));
+
+        LoginResponseDto response = userService.login(new LoginRequestDto("login@gmail.com", "P@ssw0rd123"), "10.0.0.1");
+
+        assertEquals(userId, response.getId());
+        assertNotNull(response.getToken());
+        verify(lastLoginWriter).record(eq(userId), any(LocalDateTime.class));
+        verify(userRepository, never()).updateLastLogin(any(UUID.class), any(LocalDateTime.class));
+        assertEquals(userId, tokenService.verifyToken(response.getToken()).getUserId());
+        verify(userRepository, never()).save(any(User.class));
+    }
+
+    @Test
+    void login_ShouldThrowInvalidCredentialsException_WhenPasswordDoesNotMatch() {
+        UserCredentialsView credentials = credentials(UUID.randomUUID(), "wrong@gmail.com", "P@ssw0rd123", true);
+        when(userRepository.findCredentialsByEmail("wrong@gmail.com")).thenReturn(Optional.of(credentials));
+
+        assertThrows(InvalidCredentialsException.class,
+                () -> userService.login(new LoginRequestDto("wrong@gmail.com", "0tr@Clave99"), "10.0.0.2"));
+        verify(lastLoginWriter, never()).record(any(UUID.class), any(LocalDateTime.class));
+    }
+
+    @Test
+    void logout_ShouldRejectTokenAfterwards() {
+        UUID userId = UUID.randomUUID();
+        String token = tokenService.generateToken(userId, "logout@gmail.com", 0);
+        TokenClaimsDto claims = tokenService.verifyToken(token);
+
+        userService.logout(claims);
+
+        assertThrows(InvalidTokenException.class, () -> tokenService.verifyToken(token));
+    }
+
+    @Test
+    void revokeTokens_ShouldRejectTokensWithPreviousVersion() {
+        UUID userId = UUID.randomUUID();
+        String oldToken = tokenService.generateToken(userId, "revoke@gmail.com", 0);
+        when(userRepository.incrementTokenVersion(userId)).thenReturn(1);
+        when(userRepository.findTokenVersionById(userId)).thenReturn(Optional.of(1));
+
+        userService.revokeTokens(userId);
+
+        assertThrows(InvalidTokenException.class, () -> tokenService.verifyToken(oldToken));
+        String newToken = tokenService.generateToken(userId, "revoke@gmail.com", 1);
+        assertEquals(1, tokenService.verifyToken(newToken).getTokenVersion());
+    }
+
+    @Test
+    void revokeTokens_ShouldThrowUserNotFoundException_WhenUserDoesNotExist() {
+        UUID userId = UUID.randomUUID();
+        when(userRepository.incrementTokenVersion(userId)).thenReturn(0);
+
+        assertThrows(UserNotFoundException.class, () -> userService.revokeTokens(userId));
+    }
+
+    private static UserCredentialsView credentials(UUID id, String email, String rawPassword, boolean active) {
+        UserCredentialsView credentials = mock(UserCredentialsView.class);
+        when(credentials.getId()).thenReturn(id);
+        when(credentials.getEmail()).thenReturn(email);
+        when(credentials.getPassword()).thenReturn(BCrypt.hashpw(rawPassword, BCrypt.gensalt(4)));
+        when(credentials.getIsActive()).thenReturn(active);
+        return credentials;
+    }
+
+    @Test
+    void deleteUser_ShouldSoftDeleteUser_WhenUserExists() {
+        UUID userId = UUID.randomUUID();
+        when(userRepository.softDeleteByIds(eq(List.of(userId)), any(LocalDateTime.class))).thenReturn(1);
 
         userService.deleteUser(userId);
 
-        verify(userRepository).deleteById(userId);
+        verify(userRepository).softDeleteByIds(eq(List.of(userId)), any(LocalDateTime.class));
+        verify(userRepository, never()).deleteById(any());
+        verify(userChangeService).recordDeletion(userId);
+    }
+
+    @Test
+    void deleteUser_ShouldThrowUserNotFoundException_WhenUserDoesNotExist() {
+        UUID userId = UUID.randomUUID();
+        when(userRepository.softDeleteByIds(eq(List.of(userId)), any(LocalDateTime.class))).thenReturn(0);
+
+        assertThrows(UserNotFoundException.class, () -> userService.deleteUser(userId));
+        verify(userChangeService, never()).recordDeletion(any());
     }
 
+    @Test
+    void deleteUsers_ShouldSoftDeleteOnlyExistingUsers() {
+        UUID existing = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        when(userRepository.findExistingIds(List.of(existing, missing))).thenReturn(List.of(existing));
+        when(userRepository.softDeleteByIds(eq(List.of(existing)), any(LocalDateTime.class))).thenReturn(1);
+
+        BulkDeleteResultDto result = userService.deleteUsers(List.of(existing, missing, existing));
+
+        assertEquals(3, result.getRequested());
+        assertEquals(1, result.getDeleted());
+        verify(userChangeService).recordDeletions(List.of(existing));
+    }
+
+    private static DataIntegrityViolationException duplicateEmailViolation() {
+        String message = "Unique index or primary key violation: \"PUBLIC.UK_USERS_ACTIVE_EMAIL ON PUBLIC.USERS(ACTIVE_EMAIL)\"";
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException(message, new SQLException(message, "23505"), "PUBLIC.UK_USERS_ACTIVE_EMAIL"));
+    }
+
+    private User userWithPhones(UUID userId, Phone... phones) {
+        User user = new User();
+        user.setId(userId);
+        user.setName("Patch User");
+        user.setEmail("patch@gmail.com");
+        user.setPassword("hash");
+        user.setPhones(new ArrayList<>(List.of(phones)));
+        return user;
+    }
 }
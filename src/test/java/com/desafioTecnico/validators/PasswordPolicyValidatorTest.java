@@ -0,0 +1,35 @@
+package com.desafioTecnico.validators;
+
+import com.desafioTecnico.exceptions.PasswordValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordPolicyValidatorTest {
+
+    private static final Pattern LEGACY_REGEX = Pattern.compile("^(?=.*[0-9])(?=.*[a-zA-Z])(?=.*[@#$%^&+=]).{8,20}$");
+
+    private final PasswordPolicyValidator validator = new PasswordPolicyValidator(8, 20, "@#$%^&+=");
+
+    @Test
+    void isValid_ShouldMatchLegacyRegex() {
+        String[] passwords = {
+                "P@ssw0rd123", "Passw0rd@123", "Hunter2@", "password", "Password123!", "12345678@",
+                "abc@1", "Abcdefgh1@Abcdefgh1@X", "Abcdefgh1@Abcdefgh1@", "ñandú1@xy", "Pass w0rd@",
+                "Passw0rd@\n", "\nPassw0rd@", "Passw0rd @", "@@@@@@@@", "a1=a1=a1", ""
+        };
+
+        for (String password : passwords) {
+            assertEquals(LEGACY_REGEX.matcher(password).matches(), validator.isValid(password), password);
+        }
+    }
+
+    @Test
+    void validate_ShouldThrowPasswordValidationException_WhenPasswordIsInvalid() {
+        assertThrows(PasswordValidationException.class, () -> validator.validate("sinNumeros@"));
+        assertThrows(PasswordValidationException.class, () -> validator.validate(null));
+        assertDoesNotThrow(() -> validator.validate("P@ssw0rd123"));
+    }
+}
@@ -0,0 +1,15 @@
+-- Esquema de la réplica de DataSourceConfigTest: una base de datos aparte que solo contiene la tabla users y
+-- que la prueba actualiza explícitamente, para simular una réplica atrasada respecto de la principal.
+CREATE TABLE IF NOT EXISTS users (
+    id UUID PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    created TIMESTAMP,
+    modified TIMESTAMP,
+    last_login TIMESTAMP,
+    is_active BOOLEAN,
+    token_version INT DEFAULT 0 NOT NULL,
+    version BIGINT DEFAULT 0 NOT NULL,
+    deleted_at TIMESTAMP
+    );